@@ -0,0 +1,71 @@
+package benchmarks;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import console.ConsoleSession;
+import enums.IPType;
+import static_classes.IPCodec;
+
+/**
+ * Validating and converting IP addresses, both directly and through the prompt
+ *
+ * @author Ryder James
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class AddressBenchmark {
+	private static final int COUNT = 1024;
+
+	private final String[] my_dotted = new String[COUNT];
+	private final String[] my_binary = new String[COUNT];
+	private ConsoleSession my_prompts;
+	private int my_next;
+
+	@Setup
+	public void setUp() {
+		SplittableRandom random = new SplittableRandom(1);
+		for (int i = 0; i < COUNT; i++) {
+			int address = random.nextInt();
+			my_dotted[i] = IPCodec.toString(address, IPType.DOT_DECIMAL);
+			my_binary[i] = IPCodec.toString(address, IPType.BINARY);
+		}
+		my_prompts = SyntheticConsole.session("192.168.1.254\n");
+	}
+
+	@Benchmark
+	public long parseDotDecimal() {
+		return IPCodec.parse(my_dotted[my_next++ & (COUNT - 1)], IPType.DOT_DECIMAL);
+	}
+
+	@Benchmark
+	public long parseBinary() {
+		return IPCodec.parse(my_binary[my_next++ & (COUNT - 1)], IPType.BINARY);
+	}
+
+	@Benchmark
+	public String convertToHex() {
+		return IPCodec.convert(my_dotted[my_next++ & (COUNT - 1)], IPType.DOT_DECIMAL,
+				IPType.HEX);
+	}
+
+	@Benchmark
+	public int promptForIPAddress() {
+		return my_prompts.promptForIPAddress("IP", IPType.DOT_DECIMAL);
+	}
+}
@@ -0,0 +1,48 @@
+package benchmarks;
+
+import interfaces.Card;
+
+/**
+ * A {@code Card} that is just a number
+ *
+ * @author Ryder James
+ */
+final class BenchCard implements Card {
+	final int my_value;
+
+	BenchCard(int value) {
+		my_value = value;
+	}
+
+	/**
+	 * @param size - the number of cards
+	 * @return cards numbered 0 to size - 1, in order
+	 */
+	static BenchCard[] numbered(int size) {
+		BenchCard[] cards = new BenchCard[size];
+		for (int i = 0; i < size; i++) {
+			cards[i] = new BenchCard(i);
+		}
+		return cards;
+	}
+
+	@Override
+	public int compareTo(Card other) {
+		return Integer.compare(my_value, ((BenchCard) other).my_value);
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		return other instanceof BenchCard && ((BenchCard) other).my_value == my_value;
+	}
+
+	@Override
+	public int hashCode() {
+		return my_value;
+	}
+
+	@Override
+	public String toString() {
+		return String.valueOf(my_value);
+	}
+}
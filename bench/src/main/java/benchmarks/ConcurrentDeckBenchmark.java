@@ -0,0 +1,92 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import collections.ConcurrentDeck;
+import collections.Deck;
+import interfaces.Card;
+
+/**
+ * Every thread dealing from one shared shoe: {@code ConcurrentDeck} against a {@code Deck} behind
+ * a global lock. A shoe that runs out is replaced with a full one. Runs on every core by default;
+ * repeat with {@code -t 1}, {@code -t 2} and so on to see how throughput scales with threads.
+ *
+ * @author Ryder James
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+@Threads(Threads.MAX)
+public class ConcurrentDeckBenchmark {
+	private final AtomicReference<ConcurrentDeck> my_shoe = new AtomicReference<>();
+	private Card[] my_cards;
+	private Deck my_locked;
+
+	/**
+	 * The buffer a dealer thread claims cards into
+	 */
+	@State(Scope.Thread)
+	public static class Hand {
+		final Card[] my_cards = new Card[5];
+	}
+
+	@Setup
+	public void setUp() {
+		// Eight decks' worth of cards, repeated to fill a shoe of a million cards
+		my_cards = new Card[1 << 20];
+		for (int i = 0; i < my_cards.length; i++) {
+			my_cards[i] = new BenchCard(i % 416);
+		}
+		my_shoe.set(new ConcurrentDeck(my_cards));
+		my_locked = new Deck(my_cards);
+	}
+
+	@Benchmark
+	public Card concurrentDraw() {
+		do {
+			ConcurrentDeck shoe = my_shoe.get();
+			Card card = shoe.draw();
+			if (card != null) {
+				return card;
+			}
+			my_shoe.compareAndSet(shoe, new ConcurrentDeck(my_cards));
+		} while (true);
+	}
+
+	@Benchmark
+	public Card[] concurrentDrawFive(Hand hand) {
+		do {
+			ConcurrentDeck shoe = my_shoe.get();
+			if (shoe.draw(hand.my_cards, 5) == 5) {
+				return hand.my_cards;
+			}
+			my_shoe.compareAndSet(shoe, new ConcurrentDeck(my_cards));
+		} while (true);
+	}
+
+	@Benchmark
+	public Card synchronizedDraw() {
+		synchronized (my_locked) {
+			if (my_locked.isEmpty()) {
+				my_locked.add(my_cards);
+			}
+			return my_locked.draw();
+		}
+	}
+}
@@ -0,0 +1,114 @@
+package benchmarks;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import collections.Deck;
+import collections.IndexedDeck;
+import collections.IntDeck;
+import interfaces.Card;
+
+/**
+ * Drawing, shuffling and removing cards. Every benchmark puts back what it takes, so the decks
+ * keep their size from one invocation to the next.
+ *
+ * @author Ryder James
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class DeckBenchmark {
+	private Deck my_deck;
+	private Deck my_big;
+	private Deck my_shoe;
+	private IndexedDeck my_indexed;
+	private IntDeck my_codes;
+	private Card my_middle;
+	private SplittableRandom my_random;
+	private long my_seed;
+
+	@Setup
+	public void setUp() {
+		my_deck = new Deck(BenchCard.numbered(52));
+		my_big = new Deck(BenchCard.numbered(1 << 20));
+		my_shoe = new Deck(BenchCard.numbered(416));
+		my_indexed = new IndexedDeck();
+		for (Card card : my_shoe) {
+			my_indexed.add(card);
+		}
+		my_codes = new IntDeck(52, false);
+		for (int i = 0; i < 52; i++) {
+			my_codes.add(i);
+		}
+		my_middle = new BenchCard(208);
+		my_random = new SplittableRandom(1);
+	}
+
+	@Benchmark
+	public Card draw() {
+		Card card = my_deck.draw();
+		my_deck.add(card);
+		return card;
+	}
+
+	@Benchmark
+	public Deck drawFive() {
+		Deck hand = my_deck.draw(5);
+		for (Card card : hand) {
+			my_deck.add(card);
+		}
+		return hand;
+	}
+
+	@Benchmark
+	public Deck shuffle52() {
+		my_deck.shuffle(my_random);
+		return my_deck;
+	}
+
+	@Benchmark
+	public Deck shuffle1M() {
+		my_big.shuffle(my_seed++);
+		return my_big;
+	}
+
+	@Benchmark
+	public Deck parallelShuffle1M() {
+		my_big.parallelShuffle(my_seed++);
+		return my_big;
+	}
+
+	@Benchmark
+	public Deck remove() {
+		my_shoe.remove(my_middle);
+		my_shoe.add(my_middle);
+		return my_shoe;
+	}
+
+	@Benchmark
+	public IndexedDeck removeIndexed() {
+		my_indexed.remove(my_middle);
+		my_indexed.add(my_middle);
+		return my_indexed;
+	}
+
+	@Benchmark
+	public IntDeck shuffleIntDeck52() {
+		my_codes.shuffle(my_random);
+		return my_codes;
+	}
+}
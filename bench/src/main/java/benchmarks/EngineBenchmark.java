@@ -0,0 +1,78 @@
+package benchmarks;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import collections.IntDeck;
+import engines.MonteCarloEngine;
+import random.AliasSampler;
+
+/**
+ * Simulation building blocks: a whole Monte Carlo run, and weighted sampling
+ *
+ * @author Ryder James
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class EngineBenchmark {
+	private MonteCarloEngine my_engine;
+	private AliasSampler my_sampler;
+	private SplittableRandom my_random;
+	private long my_seed;
+
+	@Setup
+	public void setUp() {
+		IntDeck deck = new IntDeck(52, false);
+		for (int i = 0; i < 52; i++) {
+			deck.add(i);
+		}
+		my_engine = new MonteCarloEngine(deck, 5);
+
+		double[] weights = new double[10_000];
+		for (int i = 0; i < weights.length; i++) {
+			weights[i] = i + 1;
+		}
+		my_sampler = new AliasSampler(weights);
+		my_random = new SplittableRandom(3);
+	}
+
+	/**
+	 * Counts flushes in a million five-card hands. Each invocation is a whole run, so the pool's
+	 * start-up is paid the way callers pay it.
+	 */
+	@Benchmark
+	public long monteCarloFlushes1M() {
+		return my_engine.run(1 << 20, my_seed++, () -> new long[1], (count, hand) -> {
+			int suit = hand[0] / 13;
+			for (int j = 1; j < hand.length; j++) {
+				if (hand[j] / 13 != suit) {
+					return;
+				}
+			}
+			count[0]++;
+		}, (a, b) -> {
+			a[0] += b[0];
+			return a;
+		}).value()[0];
+	}
+
+	@Benchmark
+	public int aliasSample() {
+		return my_sampler.sample(my_random);
+	}
+}
@@ -0,0 +1,104 @@
+package benchmarks;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import engines.IPBatchEngine;
+import enums.IPType;
+import static_classes.IPCodec;
+
+/**
+ * Bulk validation and conversion of a file of a million dot-decimal addresses, one in a hundred of
+ * them invalid. Besides whole runs per second, the {@code linesPerCore} counter reports the
+ * throughput in lines per second per core.
+ *
+ * @author Ryder James
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class IPBatchEngineBenchmark {
+	private static final int LINES = 1_000_000;
+
+	@Param({ "1", "4" })
+	public int parallelism;
+
+	private Path my_directory;
+	private Path my_input;
+	private Path my_output;
+	private Path my_errors;
+	private IPBatchEngine my_engine;
+
+	/**
+	 * Counts processed lines, divided by the number of threads that processed them
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.OPERATIONS)
+	public static class Lines {
+		public double linesPerCore;
+	}
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		SplittableRandom random = new SplittableRandom(1);
+
+		my_directory = Files.createTempDirectory("ip-batch");
+		my_input = my_directory.resolve("input.txt");
+		my_output = my_directory.resolve("output.txt");
+		my_errors = my_directory.resolve("errors.txt");
+		try (BufferedWriter out = Files.newBufferedWriter(my_input, StandardCharsets.US_ASCII)) {
+			for (int i = 0; i < LINES; i++) {
+				out.write(i % 100 == 0 ? "300.1.2.3"
+						: IPCodec.toString(random.nextInt(), IPType.DOT_DECIMAL));
+				out.write('\n');
+			}
+		}
+		my_engine = new IPBatchEngine(IPType.DOT_DECIMAL, IPType.HEX, parallelism,
+				1024 * 1024);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(my_input);
+		Files.deleteIfExists(my_output);
+		Files.deleteIfExists(my_errors);
+		Files.deleteIfExists(my_directory);
+	}
+
+	@Benchmark
+	public long validate(Lines lines) throws IOException {
+		IPBatchEngine.Result result = my_engine.run(my_input, null, null);
+		lines.linesPerCore += (double) result.lines() / parallelism;
+		return result.invalidLines();
+	}
+
+	@Benchmark
+	public long convert(Lines lines) throws IOException {
+		IPBatchEngine.Result result = my_engine.run(my_input, my_output, my_errors);
+		lines.linesPerCore += (double) result.lines() / parallelism;
+		return result.invalidLines();
+	}
+}
@@ -0,0 +1,67 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import console.NumberParser;
+
+/**
+ * Whole-number parsing by {@code NumberParser} against the path the integer prompts used to take:
+ * copy the line into a {@code String}, {@code Double.parseDouble} it, then check
+ * {@code Math.floor}. Run with {@code -prof gc} to compare allocation as well.
+ *
+ * @author Ryder James
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class NumberParsingBenchmark {
+	@Param({ "42", "-2147483648", "9007199254740993" })
+	public String input;
+
+	private final NumberParser my_parser = new NumberParser();
+	private char[] my_chars;
+
+	@Setup
+	public void setUp() {
+		my_chars = input.toCharArray();
+	}
+
+	@Benchmark
+	public long numberParser() {
+		if (my_parser.parseLong(my_chars, 0, my_chars.length, Long.MIN_VALUE,
+				Long.MAX_VALUE) != NumberParser.VALID) {
+			throw new IllegalStateException("Rejected " + input);
+		}
+		return my_parser.longValue();
+	}
+
+	@Benchmark
+	public long doubleParse() {
+		double result;
+
+		try {
+			result = Double.parseDouble(new String(my_chars, 0, my_chars.length));
+		} catch (NumberFormatException e) {
+			throw new IllegalStateException("Rejected " + input);
+		}
+		if (Math.floor(result) != result || result < Long.MIN_VALUE || result > Long.MAX_VALUE) {
+			throw new IllegalStateException("Rejected " + input);
+		}
+		return (long) result;
+	}
+}
@@ -0,0 +1,62 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import console.ConsoleSession;
+
+/**
+ * Number prompts answering from synthetic standard input
+ *
+ * @author Ryder James
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class ParsingBenchmark {
+	private ConsoleSession my_ints;
+	private ConsoleSession my_longs;
+	private ConsoleSession my_doubles;
+	private ConsoleSession my_arrays;
+
+	@Setup
+	public void setUp() {
+		my_ints = SyntheticConsole.session("123456\n");
+		my_longs = SyntheticConsole.session("9007199254740993\n");
+		my_doubles = SyntheticConsole.session("1234.5625\n");
+		my_arrays = SyntheticConsole.session("1, 2, 3, 4, 5, 6, 7, 8, 9, 10\n");
+	}
+
+	@Benchmark
+	public int promptForInt() {
+		return my_ints.promptForInt("Number", 0, 1_000_000);
+	}
+
+	@Benchmark
+	public long promptForLong() {
+		return my_longs.promptForLong("Number", 0, Long.MAX_VALUE);
+	}
+
+	@Benchmark
+	public double promptForDouble() {
+		return my_doubles.promptForDouble("Number", 0, 1_000_000);
+	}
+
+	@Benchmark
+	public int[] promptForIntArray() {
+		return my_arrays.promptForIntArray("Numbers", ",");
+	}
+}
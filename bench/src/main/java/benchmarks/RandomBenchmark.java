@@ -0,0 +1,95 @@
+package benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import random.RandomService;
+import static_classes.StaticHelper;
+
+/**
+ * Random numbers from every core at once: the single static {@code Random} that
+ * {@code StaticHelper} used to share, against {@code StaticHelper} now and a {@code RandomService}
+ * split per thread. Run with {@code -t 1} to see the uncontended cost of each.
+ *
+ * @author Ryder James
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+@Threads(Threads.MAX)
+public class RandomBenchmark {
+	private static final Random LEGACY_RANDOM = new Random();
+
+	private final RandomService my_root = new RandomService(1);
+	private final AtomicLong my_legacySeed = new AtomicLong(1);
+
+	/**
+	 * What each thread draws with
+	 */
+	@State(Scope.Thread)
+	public static class PerThread {
+		RandomService my_random;
+		Random my_legacy;
+		final int[] my_ints = new int[1024];
+
+		@Setup
+		public void setUp(RandomBenchmark benchmark) {
+			synchronized (benchmark.my_root) {
+				my_random = benchmark.my_root.split();
+			}
+			my_legacy = new Random(benchmark.my_legacySeed.getAndIncrement());
+		}
+	}
+
+	/**
+	 * How {@code StaticHelper.randomInt} drew numbers before it moved off its shared
+	 * {@code Random}
+	 */
+	@Benchmark
+	public int legacySharedRandom() {
+		return LEGACY_RANDOM.nextInt(6) + 1;
+	}
+
+	@Benchmark
+	public int staticHelperRandomInt() {
+		return StaticHelper.randomInt(1, 6);
+	}
+
+	@Benchmark
+	public int randomServiceRandomInt(PerThread thread) {
+		return thread.my_random.randomInt(1, 6);
+	}
+
+	/**
+	 * Filling an array one value at a time, as callers had to before bulk fills
+	 */
+	@Benchmark
+	public int[] legacyFill1024(PerThread thread) {
+		int[] into = thread.my_ints;
+		for (int i = 0; i < into.length; i++) {
+			into[i] = thread.my_legacy.nextInt(6) + 1;
+		}
+		return into;
+	}
+
+	@Benchmark
+	public int[] randomServiceFill1024(PerThread thread) {
+		return thread.my_random.fill(thread.my_ints, 1, 6);
+	}
+}
@@ -0,0 +1,73 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static_classes.ConsoleUI;
+
+/**
+ * Rendering arrays with {@code printableArray} and {@code printableDoubleArray}
+ *
+ * @author Ryder James
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class RenderingBenchmark {
+	private Object[] my_objects;
+	private int[] my_ints;
+	private double[] my_doubles;
+	private Object[][] my_grid;
+
+	@Setup
+	public void setUp() {
+		my_objects = new Object[1000];
+		my_ints = new int[1000];
+		my_doubles = new double[1000];
+		my_grid = new Object[100][10];
+
+		for (int i = 0; i < my_objects.length; i++) {
+			my_objects[i] = i % 10 == 0 ? null : "item" + i;
+			my_ints[i] = i * 7919;
+			my_doubles[i] = i / 7.0;
+		}
+		for (int i = 0; i < my_grid.length; i++) {
+			for (int j = 0; j < my_grid[i].length; j++) {
+				my_grid[i][j] = i * j;
+			}
+		}
+	}
+
+	@Benchmark
+	public String printableArrayOfObjects() {
+		return ConsoleUI.printableArray(my_objects);
+	}
+
+	@Benchmark
+	public String printableArrayOfInts() {
+		return ConsoleUI.printableArray(my_ints);
+	}
+
+	@Benchmark
+	public String printableArrayOfDoubles() {
+		return ConsoleUI.printableArray(my_doubles);
+	}
+
+	@Benchmark
+	public String printableDoubleArray() {
+		return ConsoleUI.printableDoubleArray(my_grid);
+	}
+}
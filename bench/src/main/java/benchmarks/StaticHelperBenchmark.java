@@ -0,0 +1,50 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static_classes.StaticHelper;
+
+/**
+ * {@code StaticHelper} called from every available core at once. Run with {@code -t 1} to
+ * compare against a single thread.
+ *
+ * @author Ryder James
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+@Threads(Threads.MAX)
+public class StaticHelperBenchmark {
+	private final Integer[] my_elements = { 1, 2, 3, 4, 5, 6 };
+	private final int[] my_fill = new int[1024];
+
+	@Benchmark
+	public int randomInt() {
+		return StaticHelper.randomInt(1, 6);
+	}
+
+	@Benchmark
+	public Integer randomElement() {
+		return StaticHelper.randomElement(my_elements);
+	}
+
+	@Benchmark
+	@Threads(1)
+	public int[] randomInts1024() {
+		return StaticHelper.randomInts(my_fill, 1, 6);
+	}
+}
@@ -0,0 +1,67 @@
+package benchmarks;
+
+import java.io.Reader;
+import java.io.Writer;
+
+import console.ConsoleOutput;
+import console.ConsoleSession;
+import console.LineSource;
+
+/**
+ * Console sessions over synthetic standard input, for benchmarking prompts without a terminal
+ *
+ * @author Ryder James
+ */
+final class SyntheticConsole {
+	/**
+	 * Don't let anyone instantiate this class
+	 */
+	private SyntheticConsole() {}
+
+	/**
+	 * @param line - the line to answer every prompt with, including its terminator
+	 * @return a session that reads the same line forever and throws its output away
+	 */
+	static ConsoleSession session(String line) {
+		return new ConsoleSession(new LineSource(new RepeatingReader(line)),
+				new ConsoleOutput(new NullWriter()));
+	}
+
+	/**
+	 * Synthetic standard input that repeats the same text forever
+	 */
+	private static final class RepeatingReader extends Reader {
+		private final char[] my_text;
+		private int my_position;
+
+		private RepeatingReader(String text) {
+			my_text = text.toCharArray();
+		}
+
+		@Override
+		public int read(char[] buffer, int offset, int length) {
+			for (int i = 0; i < length; i++) {
+				buffer[offset + i] = my_text[my_position];
+				my_position = (my_position + 1) % my_text.length;
+			}
+			return length;
+		}
+
+		@Override
+		public void close() {}
+	}
+
+	/**
+	 * Standard output that throws everything away
+	 */
+	private static final class NullWriter extends Writer {
+		@Override
+		public void write(char[] buffer, int offset, int length) {}
+
+		@Override
+		public void flush() {}
+
+		@Override
+		public void close() {}
+	}
+}
@@ -0,0 +1,160 @@
+package collections;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import interfaces.Card;
+
+/**
+ * A deck, such as a dealer's shoe, that any number of threads can draw from at once without
+ * locking. The cards are fixed when the deck is created; a thread claims the top card (or the top
+ * n cards) by moving an atomic top index down with a compare-and-set, so every card is dealt to
+ * exactly one thread.
+ * <p>
+ * Because cards are never added after creation, the cards below the top index never change, and
+ * {@link #snapshot()} and {@link #iterator()} can copy them safely while other threads draw. To
+ * refill a shoe, create a new {@code ConcurrentDeck} from a freshly shuffled {@link Deck}.
+ *
+ * @author Ryder James
+ */
+public class ConcurrentDeck implements Iterable<Card> {
+	private final Card[] my_cards;
+	private final AtomicInteger my_top;
+
+	/**
+	 * Initializes a new deck holding the given {@code Card} objects
+	 *
+	 * @param cards - the cards, with the top card last
+	 */
+	public ConcurrentDeck(Card... cards) {
+		my_cards = cards.clone();
+		my_top = new AtomicInteger(my_cards.length);
+	}
+
+	/**
+	 * Initializes a new deck holding the cards of a {@code Deck}, in the same order
+	 *
+	 * @param deck - the deck to copy
+	 */
+	public ConcurrentDeck(Deck deck) {
+		my_cards = new Card[deck.size()];
+		int i = 0;
+		for (Card card : deck) {
+			my_cards[i++] = card;
+		}
+		my_top = new AtomicInteger(my_cards.length);
+	}
+
+	/**
+	 * Draws a {@code Card} off the "top" (the highest index) of the deck
+	 *
+	 * @return the drawn {@code Card}, or null if the deck is empty, so threads racing for the last
+	 *         card don't need to handle an exception
+	 */
+	public Card draw() {
+		int top;
+
+		do {
+			top = my_top.get();
+			if (top == 0) {
+				return null;
+			}
+		} while (!my_top.compareAndSet(top, top - 1));
+
+		return my_cards[top - 1];
+	}
+
+	/**
+	 * Draws up to {@code numberToDraw} cards off the top of the deck with a single claim, filling
+	 * {@code into} in the order they were drawn
+	 *
+	 * @param into - where to put the drawn cards, starting at index 0
+	 * @param numberToDraw - the most cards to draw
+	 * @return the number of cards drawn, which is less than asked for only if the deck ran out
+	 */
+	public int draw(Card[] into, int numberToDraw) {
+		if (numberToDraw < 0 || numberToDraw > into.length) {
+			throw new IllegalArgumentException("Must draw between 0 and " + into.length
+					+ " cards!");
+		}
+
+		int top;
+		int count;
+
+		do {
+			top = my_top.get();
+			count = Math.min(numberToDraw, top);
+		} while (count > 0 && !my_top.compareAndSet(top, top - count));
+
+		for (int i = 0; i < count; i++) {
+			into[i] = my_cards[top - 1 - i];
+		}
+		return count;
+	}
+
+	/**
+	 * Draws exactly {@code numberToDraw} cards off the top of the deck with a single claim
+	 *
+	 * @param numberToDraw - the number of {@code Card} objects to draw
+	 * @return a {@code Deck} containing the drawn cards, with the old top card at index 0
+	 * @throws IllegalArgumentException if the deck holds fewer cards than that; no cards are
+	 *             drawn in that case
+	 */
+	public Deck draw(int numberToDraw) {
+		if (numberToDraw < 1) {
+			throw new IllegalArgumentException("Must draw at least 1 card!");
+		}
+
+		int top;
+
+		do {
+			top = my_top.get();
+			if (top < numberToDraw) {
+				throw new IllegalArgumentException("Not enough cards in the deck!");
+			}
+		} while (!my_top.compareAndSet(top, top - numberToDraw));
+
+		Deck deck = new Deck();
+		for (int i = 1; i <= numberToDraw; i++) {
+			deck.add(my_cards[top - i]);
+		}
+		return deck;
+	}
+
+	/**
+	 * @return the number of {@code Card} objects left in the deck. May be out of date as soon as
+	 *         it returns if other threads are drawing.
+	 */
+	public int size() {
+		return my_top.get();
+	}
+
+	/**
+	 * @return true if every {@code Card} has been drawn
+	 */
+	public boolean isEmpty() {
+		return my_top.get() == 0;
+	}
+
+	/**
+	 * @return the cards left in the deck at one instant, with the top card last
+	 */
+	public Card[] snapshot() {
+		return Arrays.copyOf(my_cards, my_top.get());
+	}
+
+	/**
+	 * @return an iterator over a {@link #snapshot()} of the deck, which is not affected by later
+	 *         draws
+	 */
+	@Override
+	public Iterator<Card> iterator() {
+		return Arrays.asList(snapshot()).iterator();
+	}
+
+	@Override
+	public String toString() {
+		return Arrays.toString(snapshot());
+	}
+}
@@ -2,8 +2,17 @@ package collections;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
 import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
 
 import interfaces.Card;
 
@@ -13,6 +22,9 @@ import interfaces.Card;
  * @author Ryder James
  */
 public class Deck implements Iterable<Card> {
+	private static final int PARALLEL_PART_SIZE = 1 << 16;
+	private static final int MAX_PARALLEL_PARTS = 1024;
+
 	private final ArrayList<Card> my_cards;
 
 	/**
@@ -75,14 +87,14 @@ public class Deck implements Iterable<Card> {
 	 * @return the drawn {@code Card}
 	 */
 	public Card draw() {
-		Card result = my_cards.get(my_cards.size() - 1);
-		my_cards.remove(result);
-		return result;
+		return my_cards.remove(my_cards.size() - 1);
 	}
 
 	/**
 	 * Draws a certain number of {@code Card} objects off the "top" (the highest
-	 * index) of the {@code Deck}, removing them from the {@code Deck}
+	 * index) of the {@code Deck}, removing them from the {@code Deck}. The cards
+	 * are moved as one block, so the drawn {@code Deck} holds them in the order
+	 * they were drawn, with the old top card at index 0.
 	 * 
 	 * @param numberToDraw - the number of {@code Card} objects to draw
 	 * 
@@ -95,15 +107,23 @@ public class Deck implements Iterable<Card> {
 			throw new IllegalArgumentException("Not enough cards in the deck!");
 		}
 
+		List<Card> top = my_cards.subList(my_cards.size() - numberToDraw, my_cards.size());
 		Deck deck = new Deck();
 
-		for (int i = 0; i < numberToDraw; i++) {
-			deck.add(this.draw());
-		}
+		deck.my_cards.addAll(top);
+		Collections.reverse(deck.my_cards);
+		top.clear();
 
 		return deck;
 	}
 
+	/**
+	 * @return the number of {@code Card} objects in this deck
+	 */
+	public int size() {
+		return my_cards.size();
+	}
+
 	/**
 	 * @return true if the number of {@code Card} objects in this deck is 0
 	 */
@@ -112,17 +132,232 @@ public class Deck implements Iterable<Card> {
 	}
 
 	/**
-	 * Shuffles the deck. More specifically, switches the {@code Card} at every
-	 * index for a {@code Card} at a random index.
+	 * Shuffles the deck with a Fisher-Yates shuffle, so every ordering is equally
+	 * likely
 	 */
 	public void shuffle() {
-		for (int i = 0; i < my_cards.size(); i++) {
-			Card temp = my_cards.get(i);
-			int randIndex = new Random().nextInt(my_cards.size());
+		shuffle(ThreadLocalRandom.current());
+	}
+
+	/**
+	 * Shuffles the deck with a Fisher-Yates shuffle. Shuffling equal decks with
+	 * the same seed always produces the same order.
+	 * 
+	 * @param seed - the seed for the random number generator
+	 */
+	public void shuffle(long seed) {
+		shuffle(new SplittableRandom(seed));
+	}
+
+	/**
+	 * Shuffles the deck with a Fisher-Yates shuffle, drawing random numbers from
+	 * the given generator
+	 * 
+	 * @param random - the random number generator to use
+	 */
+	public void shuffle(Random random) {
+		shuffle(random::nextInt);
+	}
+
+	/**
+	 * Shuffles the deck with a Fisher-Yates shuffle, drawing random numbers from
+	 * the given generator
+	 * 
+	 * @param random - the random number generator to use
+	 */
+	public void shuffle(SplittableRandom random) {
+		shuffle(random::nextInt);
+	}
+
+	/**
+	 * Shuffles the deck using every available core. Each card is first sent to a
+	 * random bucket, then every bucket is shuffled on its own, which gives every
+	 * ordering the same probability as {@link #shuffle()}. Small decks are
+	 * shuffled sequentially. The result depends only on the seed, not on the
+	 * number of cores.
+	 * 
+	 * @param seed - the seed for the random number generator
+	 */
+	public void parallelShuffle(long seed) {
+		parallelShuffle(new SplittableRandom(seed));
+	}
+
+	/**
+	 * Shuffles the deck using every available core, as described in
+	 * {@link #parallelShuffle(long)}
+	 * 
+	 * @param random - the random number generator to split a generator for each
+	 *               task from
+	 */
+	public void parallelShuffle(SplittableRandom random) {
+		int size = my_cards.size();
+		int parts = Math.min(MAX_PARALLEL_PARTS, size / PARALLEL_PART_SIZE);
+
+		if (parts < 2) {
+			shuffle(random);
+			return;
+		}
+
+		Card[] cards = my_cards.toArray(new Card[size]);
+		Card[] shuffled = new Card[size];
+		short[] buckets = new short[size];
+		int[][] counts = new int[parts][parts];
+		SplittableRandom[] scatterRandoms = split(random, parts);
+		SplittableRandom[] bucketRandoms = split(random, parts);
+
+		// Send every card to a random bucket, counting how many each part sends
+		IntStream.range(0, parts).parallel().forEach(part -> {
+			SplittableRandom partRandom = scatterRandoms[part];
+			for (int i = partStart(part, parts, size); i < partStart(part + 1, parts, size); i++) {
+				buckets[i] = (short) partRandom.nextInt(parts);
+				counts[part][buckets[i]]++;
+			}
+		});
+
+		// Turn the counts into where each part starts writing in each bucket
+		int[] bucketStarts = new int[parts + 1];
+		int offset = 0;
+		for (int bucket = 0; bucket < parts; bucket++) {
+			bucketStarts[bucket] = offset;
+			for (int part = 0; part < parts; part++) {
+				int count = counts[part][bucket];
+				counts[part][bucket] = offset;
+				offset += count;
+			}
+		}
+		bucketStarts[parts] = size;
+
+		IntStream.range(0, parts).parallel().forEach(part -> {
+			int[] next = counts[part];
+			for (int i = partStart(part, parts, size); i < partStart(part + 1, parts, size); i++) {
+				shuffled[next[buckets[i]]++] = cards[i];
+			}
+		});
+
+		IntStream.range(0, parts).parallel().forEach(bucket -> {
+			SplittableRandom bucketRandom = bucketRandoms[bucket];
+			int start = bucketStarts[bucket];
+			for (int i = bucketStarts[bucket + 1] - 1; i > start; i--) {
+				int j = start + bucketRandom.nextInt(i - start + 1);
+				Card temp = shuffled[i];
+				shuffled[i] = shuffled[j];
+				shuffled[j] = temp;
+			}
+		});
+
+		my_cards.clear();
+		my_cards.addAll(Arrays.asList(shuffled));
+	}
+
+	/**
+	 * Shuffles the deck with a Fisher-Yates shuffle
+	 * 
+	 * @param nextInt - returns a random int from 0 (inclusive) to its argument
+	 *                (exclusive)
+	 */
+	private void shuffle(IntUnaryOperator nextInt) {
+		for (int i = my_cards.size() - 1; i > 0; i--) {
+			my_cards.set(i, my_cards.set(nextInt.applyAsInt(i + 1), my_cards.get(i)));
+		}
+	}
+
+	private static int partStart(int part, int parts, int size) {
+		return (int) ((long) size * part / parts);
+	}
+
+	private static SplittableRandom[] split(SplittableRandom random, int count) {
+		SplittableRandom[] randoms = new SplittableRandom[count];
+		for (int i = 0; i < count; i++) {
+			randoms[i] = random.split();
+		}
+		return randoms;
+	}
+
+	/**
+	 * Sorts the deck into ascending order, so the highest {@code Card} is on top
+	 */
+	public void sort() {
+		my_cards.sort(null);
+	}
+
+	/**
+	 * Sorts the deck into ascending order using every available core. Faster than
+	 * {@link #sort()} for large decks.
+	 */
+	public void parallelSort() {
+		Card[] cards = my_cards.toArray(new Card[my_cards.size()]);
+
+		Arrays.parallelSort(cards);
+		my_cards.clear();
+		my_cards.addAll(Arrays.asList(cards));
+	}
+
+	/**
+	 * @return the lowest {@code Card} in the deck
+	 * @throws NoSuchElementException if the deck is empty
+	 */
+	public Card min() {
+		return Collections.min(my_cards);
+	}
+
+	/**
+	 * @return the highest {@code Card} in the deck
+	 * @throws NoSuchElementException if the deck is empty
+	 */
+	public Card max() {
+		return Collections.max(my_cards);
+	}
+
+	/**
+	 * Finds the highest {@code Card} objects without sorting the whole deck, in
+	 * O(n log k) time. The deck is not changed.
+	 * 
+	 * @param k - the number of {@code Card} objects to find
+	 * @return the {@code k} highest cards, highest first
+	 */
+	public List<Card> highest(int k) {
+		return select(k, Comparator.naturalOrder());
+	}
+
+	/**
+	 * Finds the lowest {@code Card} objects without sorting the whole deck, in
+	 * O(n log k) time. The deck is not changed.
+	 * 
+	 * @param k - the number of {@code Card} objects to find
+	 * @return the {@code k} lowest cards, lowest first
+	 */
+	public List<Card> lowest(int k) {
+		return select(k, Comparator.reverseOrder());
+	}
+
+	/**
+	 * Keeps the {@code k} cards that come last in the given order in a heap whose
+	 * root is the first of them, so each other card costs at most one O(log k)
+	 * replacement
+	 * 
+	 * @return the selected cards, last in the given order first
+	 */
+	private List<Card> select(int k, Comparator<Card> order) {
+		if (k < 0 || k > my_cards.size()) {
+			throw new IllegalArgumentException("Must select between 0 and "
+					+ my_cards.size() + " cards!");
+		}
+
+		PriorityQueue<Card> heap = new PriorityQueue<>(Math.max(1, k), order);
+		for (Card card : my_cards) {
+			if (heap.size() < k) {
+				heap.add(card);
+			} else if (k > 0 && order.compare(card, heap.peek()) > 0) {
+				heap.poll();
+				heap.add(card);
+			}
+		}
 
-			my_cards.set(i, my_cards.get(randIndex));
-			my_cards.set(randIndex, temp);
+		Card[] selected = new Card[heap.size()];
+		for (int i = selected.length - 1; i >= 0; i--) {
+			selected[i] = heap.poll();
 		}
+		return Arrays.asList(selected);
 	}
 
 	@Override
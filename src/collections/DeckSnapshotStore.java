@@ -0,0 +1,260 @@
+package collections;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import interfaces.Card;
+import interfaces.CardCodec;
+
+/**
+ * A memory-mapped file of deck snapshots, for checkpointing many decks at once and restoring them
+ * after a restart. Each deck is stored as its card codes in order, so any {@code Card} type with a
+ * {@link CardCodec} can be saved.
+ * <p>
+ * The file starts with a 16 byte header (magic number, format version and deck count), followed
+ * by the offset of each deck's first card and then every card code, all little-endian. Restoring
+ * a deck is one bulk copy out of the mapping, and {@link #codes(int)} reads a deck without
+ * copying at all.
+ *
+ * @author Ryder James
+ */
+public class DeckSnapshotStore implements Closeable {
+	private static final int MAGIC = 0x4B434544; // "DECK" in little-endian
+	private static final int VERSION = 1;
+	private static final int HEADER_BYTES = 16;
+
+	private final FileChannel my_channel;
+	private final LongBuffer my_offsets;
+	private final IntBuffer my_codes;
+	private final int my_count;
+
+	/**
+	 * Opens a snapshot file written by {@link #write(Path, List)}
+	 *
+	 * @param file - the snapshot file
+	 * @throws IOException if the file cannot be read or is not a deck snapshot
+	 */
+	public DeckSnapshotStore(Path file) throws IOException {
+		my_channel = FileChannel.open(file, StandardOpenOption.READ);
+
+		try {
+			long size = my_channel.size();
+			if (size < HEADER_BYTES || size > Integer.MAX_VALUE) {
+				throw new IOException("Not a deck snapshot!");
+			}
+
+			MappedByteBuffer bytes = my_channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+			bytes.order(ByteOrder.LITTLE_ENDIAN);
+			if (bytes.getInt(0) != MAGIC || bytes.getInt(4) != VERSION) {
+				throw new IOException("Not a deck snapshot!");
+			}
+
+			my_count = bytes.getInt(8);
+			if (my_count < 0 || HEADER_BYTES + (my_count + 1L) * Long.BYTES > size) {
+				throw new IOException("Deck snapshot is truncated!");
+			}
+			bytes.position(HEADER_BYTES);
+			my_offsets = bytes.slice().order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+			bytes.position(HEADER_BYTES + (my_count + 1) * Long.BYTES);
+			my_codes = bytes.slice().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+			checkOffsets();
+		} catch (IOException | RuntimeException e) {
+			my_channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Writes a snapshot of every deck, replacing the file if it exists
+	 *
+	 * @param file - where to write the snapshot
+	 * @param decks - the decks to save
+	 * @throws IOException if the file cannot be written
+	 */
+	public static void write(Path file, List<IntDeck> decks) throws IOException {
+		long cards = 0;
+		for (IntDeck deck : decks) {
+			cards += deck.size();
+		}
+
+		write(file, decks.size(), cards, (offsets, codes) -> {
+			for (IntDeck deck : decks) {
+				offsets.put(codes.position());
+				codes.put(deck.view());
+			}
+		});
+	}
+
+	/**
+	 * Encodes and writes a snapshot of every deck, replacing the file if it exists. The decks are
+	 * gone through twice, once to size the file and once to encode each card straight into it, so
+	 * nothing but the file holds a second copy of them.
+	 *
+	 * @param file - where to write the snapshot
+	 * @param decks - the decks to save, which must not change while they are written
+	 * @param codec - converts each card to its code
+	 * @throws IOException if the file cannot be written
+	 */
+	@SuppressWarnings("unchecked")
+	public static <C extends Card> void write(Path file, Iterable<Deck> decks,
+			CardCodec<C> codec) throws IOException {
+		int count = 0;
+		long cards = 0;
+		for (Deck deck : decks) {
+			count++;
+			cards += deck.size();
+		}
+
+		write(file, count, cards, (offsets, codes) -> {
+			for (Deck deck : decks) {
+				offsets.put(codes.position());
+				for (Card card : deck) {
+					codes.put(codec.encode((C) card));
+				}
+			}
+		});
+	}
+
+	/**
+	 * Maps a snapshot file of the given size, writes its header, and lets the caller write each
+	 * deck's offset and codes into the mapping
+	 *
+	 * @param count - the number of decks
+	 * @param cards - the total number of cards in every deck
+	 * @param decks - writes each deck's first offset and then its codes
+	 */
+	private static void write(Path file, int count, long cards,
+			BiConsumer<LongBuffer, IntBuffer> decks) throws IOException {
+		long size = HEADER_BYTES + (count + 1L) * Long.BYTES + cards * Integer.BYTES;
+		if (size > Integer.MAX_VALUE) {
+			throw new IOException("Snapshot is too large for one file!");
+		}
+
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+				StandardOpenOption.READ, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			MappedByteBuffer bytes = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+			bytes.order(ByteOrder.LITTLE_ENDIAN);
+			bytes.putInt(MAGIC).putInt(VERSION).putInt(count).putInt(0);
+
+			LongBuffer offsets = bytes.slice().order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+			offsets.limit(count);
+			bytes.position(HEADER_BYTES + (count + 1) * Long.BYTES);
+			IntBuffer codes = bytes.slice().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+
+			try {
+				decks.accept(offsets, codes);
+			} catch (BufferOverflowException e) {
+				throw new ConcurrentModificationException("Decks changed while being written!");
+			}
+			if (offsets.hasRemaining() || codes.hasRemaining()) {
+				throw new ConcurrentModificationException("Decks changed while being written!");
+			}
+
+			offsets.limit(count + 1);
+			offsets.put(codes.position());
+			bytes.force();
+		}
+	}
+
+	/**
+	 * @return the number of decks in the snapshot
+	 */
+	public int count() {
+		return my_count;
+	}
+
+	/**
+	 * @param index - the index of the deck
+	 * @return the number of cards in the deck
+	 */
+	public int size(int index) {
+		checkIndex(index);
+		return (int) (my_offsets.get(index + 1) - my_offsets.get(index));
+	}
+
+	/**
+	 * @param index - the index of the deck
+	 * @return a read-only view of the deck's codes, from the bottom to the top, straight out of
+	 *         the mapped file
+	 */
+	public IntBuffer codes(int index) {
+		checkIndex(index);
+		IntBuffer codes = my_codes.asReadOnlyBuffer();
+		codes.limit((int) my_offsets.get(index + 1));
+		codes.position((int) my_offsets.get(index));
+		return codes;
+	}
+
+	/**
+	 * Restores a deck with a single bulk copy
+	 *
+	 * @param index - the index of the deck
+	 * @param direct - when true, the restored codes are stored off the heap
+	 * @return a new deck holding the saved cards in their saved order
+	 */
+	public IntDeck restore(int index, boolean direct) {
+		IntBuffer codes = codes(index);
+		IntDeck deck = new IntDeck(codes.remaining(), direct);
+		deck.add(codes);
+		return deck;
+	}
+
+	/**
+	 * Restores and decodes a deck
+	 *
+	 * @param index - the index of the deck
+	 * @param codec - converts each code to its card
+	 * @return a new deck holding the saved cards in their saved order
+	 */
+	public <C extends Card> Deck restore(int index, CardCodec<C> codec) {
+		IntBuffer codes = codes(index);
+		Deck deck = new Deck();
+		while (codes.hasRemaining()) {
+			deck.add(codec.decode(codes.get()));
+		}
+		return deck;
+	}
+
+	/**
+	 * Closes the file. Views returned by {@link #codes(int)} stay readable until they are
+	 * garbage collected.
+	 */
+	@Override
+	public void close() throws IOException {
+		my_channel.close();
+	}
+
+	/**
+	 * Checks that every deck lies inside the codes and that none overlap, so a corrupt file is
+	 * rejected when it is opened rather than when a deck is read
+	 */
+	private void checkOffsets() throws IOException {
+		long previous = 0;
+		for (int i = 0; i <= my_count; i++) {
+			long offset = my_offsets.get(i);
+			if (offset < previous || offset > my_codes.limit()) {
+				throw new IOException("Deck snapshot is truncated or corrupt!");
+			}
+			previous = offset;
+		}
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= my_count) {
+			throw new IndexOutOfBoundsException(
+					"Index " + index + " out of bounds for count " + my_count);
+		}
+	}
+}
@@ -0,0 +1,285 @@
+package collections;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import console.LineSource;
+import enums.IPType;
+import static_classes.IPCodec;
+
+/**
+ * A set of IPv4 address ranges, for checking whether an address falls in any of them. Ranges are
+ * kept as a sorted array of disjoint primitive intervals, so a lookup is a binary search that does
+ * not allocate, however many ranges there are.
+ * <p>
+ * Ranges may be added in any order and may overlap; they are sorted and merged in one pass before
+ * the next lookup. Once the set is no longer being added to and {@link #compact()} has been
+ * called, any number of threads may look up addresses at once.
+ *
+ * @author Ryder James
+ */
+public class IPRangeSet {
+	private static final int[] EMPTY = {};
+
+	private final LongList my_pending = new LongList();
+	private int[] my_firsts = EMPTY;
+	private int[] my_lasts = EMPTY;
+	private int my_size;
+
+	/**
+	 * Adds every address from {@code first} to {@code last}, inclusive
+	 *
+	 * @param first - the lowest address in the range, packed into an int
+	 * @param last - the highest address in the range, packed into an int
+	 */
+	public void add(int first, int last) {
+		if (Integer.compareUnsigned(first, last) > 0) {
+			throw new IllegalArgumentException("First address must not be after the last!");
+		}
+		// Flipping the sign bit lets signed comparisons order the addresses as unsigned
+		my_pending.add(pack(first ^ Integer.MIN_VALUE, last ^ Integer.MIN_VALUE));
+	}
+
+	/**
+	 * Adds a range of addresses, written as a single address ("10.0.0.1"), a CIDR block
+	 * ("10.0.0.0/8") or an inclusive range ("10.0.0.1-10.0.0.9"). Whitespace around the "/" or "-"
+	 * and at either end is ignored, so "10.0.0.1 - 10.0.0.9" is also accepted. Addresses are
+	 * written in the given form; the prefix length of a CIDR block is always decimal.
+	 *
+	 * @param range - the range to add
+	 * @param form - the form the addresses are written in
+	 */
+	public void add(CharSequence range, IPType form) {
+		add(range, 0, range.length(), form);
+	}
+
+	/**
+	 * Adds a range of addresses written in part of a {@code CharSequence}, as described in
+	 * {@link #add(CharSequence, IPType)}
+	 *
+	 * @param range - the characters to parse
+	 * @param from - the inclusive index of the first character
+	 * @param to - the exclusive index of the last character
+	 * @param form - the form the addresses are written in
+	 */
+	public void add(CharSequence range, int from, int to, IPType form) {
+		from = trimStart(range, from, to);
+		to = trimEnd(range, from, to);
+
+		int separator = from;
+		while (separator < to && range.charAt(separator) != '/' && range.charAt(separator) != '-') {
+			separator++;
+		}
+
+		int first = address(range, from, trimEnd(range, from, separator), form);
+
+		if (separator == to) {
+			add(first, first);
+		} else if (range.charAt(separator) == '-') {
+			add(first, address(range, trimStart(range, separator + 1, to), to, form));
+		} else {
+			int prefix = prefix(range, trimStart(range, separator + 1, to), trimEnd(range,
+					separator + 1, to));
+			int mask = prefix == 0 ? 0 : -1 << (32 - prefix);
+			add(first & mask, first | ~mask);
+		}
+	}
+
+	/**
+	 * Reads a file of ranges, one per line, as described in {@link #add(CharSequence, IPType)}.
+	 * Blank lines and lines starting with "#" are skipped.
+	 *
+	 * @param file - the file to read
+	 * @param form - the form the addresses are written in
+	 * @return a compacted set of every range in the file
+	 * @throws IOException if the file cannot be read
+	 */
+	public static IPRangeSet read(Path file, IPType form) throws IOException {
+		IPRangeSet set = new IPRangeSet();
+
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			LineSource source = new LineSource(channel);
+			CharSequence line = source.lineView();
+
+			for (int number = 1; source.nextLine(); number++) {
+				source.trimLine();
+				if (line.length() == 0 || line.charAt(0) == '#') {
+					continue;
+				}
+
+				try {
+					set.add(line, form);
+				} catch (IllegalArgumentException e) {
+					throw new IllegalArgumentException("Line " + number + ": " + e.getMessage(), e);
+				}
+			}
+		}
+
+		set.compact();
+		return set;
+	}
+
+	/**
+	 * @param address - the address to look up, packed into an int
+	 * @return true if the address is in any range of this set
+	 */
+	public boolean contains(int address) {
+		compact();
+
+		int key = address ^ Integer.MIN_VALUE;
+		int low = 0;
+		int high = my_size - 1;
+
+		while (low <= high) {
+			int middle = (low + high) >>> 1;
+			if (my_firsts[middle] > key) {
+				high = middle - 1;
+			} else if (my_lasts[middle] < key) {
+				low = middle + 1;
+			} else {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * @param ip - the address to look up
+	 * @param form - the form the address is written in
+	 * @return true if the address is in any range of this set
+	 */
+	public boolean contains(CharSequence ip, IPType form) {
+		return contains(address(ip, 0, ip.length(), form));
+	}
+
+	/**
+	 * Sorts the ranges added since the last lookup and merges any that overlap or touch
+	 */
+	public void compact() {
+		if (my_pending.isEmpty()) {
+			return;
+		}
+
+		long[] ranges = new long[my_size + my_pending.size()];
+		for (int i = 0; i < my_size; i++) {
+			ranges[i] = pack(my_firsts[i], my_lasts[i]);
+		}
+		for (int i = 0; i < my_pending.size(); i++) {
+			ranges[my_size + i] = my_pending.get(i);
+		}
+		my_pending.clear();
+		Arrays.sort(ranges);
+
+		int[] firsts = new int[ranges.length];
+		int[] lasts = new int[ranges.length];
+		int size = 0;
+
+		for (long range : ranges) {
+			int first = (int) (range >> 32);
+			int last = (int) range;
+
+			if (size > 0 && (long) first <= (long) lasts[size - 1] + 1) {
+				lasts[size - 1] = Math.max(lasts[size - 1], last);
+			} else {
+				firsts[size] = first;
+				lasts[size] = last;
+				size++;
+			}
+		}
+
+		my_firsts = Arrays.copyOf(firsts, size);
+		my_lasts = Arrays.copyOf(lasts, size);
+		my_size = size;
+	}
+
+	/**
+	 * @return the number of disjoint ranges in this set, after merging
+	 */
+	public int size() {
+		compact();
+		return my_size;
+	}
+
+	/**
+	 * @return true if this set contains no addresses
+	 */
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	@Override
+	public String toString() {
+		compact();
+
+		StringBuilder result = new StringBuilder("[");
+		for (int i = 0; i < my_size; i++) {
+			if (i > 0) {
+				result.append(", ");
+			}
+			IPCodec.format(my_firsts[i] ^ Integer.MIN_VALUE, IPType.DOT_DECIMAL, result);
+			result.append('-');
+			IPCodec.format(my_lasts[i] ^ Integer.MIN_VALUE, IPType.DOT_DECIMAL, result);
+		}
+		return result.append(']').toString();
+	}
+
+	/**
+	 * Packs a range so that sorting the packed values sorts the ranges by their first address
+	 */
+	private static long pack(int first, int last) {
+		return (long) first << 32 | last & 0xFFFFFFFFL;
+	}
+
+	/**
+	 * @return the index of the first character in the span that isn't whitespace, or to if none is
+	 */
+	private static int trimStart(CharSequence text, int from, int to) {
+		while (from < to && text.charAt(from) <= ' ') {
+			from++;
+		}
+		return from;
+	}
+
+	/**
+	 * @return the index just after the last character in the span that isn't whitespace, or from
+	 *         if none is
+	 */
+	private static int trimEnd(CharSequence text, int from, int to) {
+		while (to > from && text.charAt(to - 1) <= ' ') {
+			to--;
+		}
+		return to;
+	}
+
+	private static int address(CharSequence ip, int from, int to, IPType form) {
+		long address = IPCodec.parse(ip, from, to, form);
+
+		if (address < 0) {
+			throw new IllegalArgumentException(IPCodec.describe(address, form) + "!");
+		}
+		return (int) address;
+	}
+
+	private static int prefix(CharSequence range, int from, int to) {
+		int prefix = 0;
+
+		if (from == to || to - from > 2) {
+			throw new IllegalArgumentException("Prefix length must be in the range 0-32!");
+		}
+		for (int i = from; i < to; i++) {
+			char c = range.charAt(i);
+			if (c < '0' || c > '9') {
+				throw new IllegalArgumentException("Prefix length must be in the range 0-32!");
+			}
+			prefix = prefix * 10 + c - '0';
+		}
+		if (prefix > 32) {
+			throw new IllegalArgumentException("Prefix length must be in the range 0-32!");
+		}
+		return prefix;
+	}
+}
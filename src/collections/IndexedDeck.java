@@ -0,0 +1,355 @@
+package collections;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntUnaryOperator;
+
+import interfaces.Card;
+
+/**
+ * A {@link Deck} alternative that keeps a hash index of where every card is, for decks that
+ * cards are often looked up in or removed from, such as a shoe of several decks. Membership,
+ * removal and counting how many equal cards are left all take constant time, while drawing and
+ * iterating behave exactly as they do for a {@code Deck}.
+ * <p>
+ * Removing a card from the middle leaves an empty slot behind instead of shifting every card
+ * above it. Empty slots are skipped when iterating and cleared out once they outnumber the cards.
+ * Cards must not be null.
+ *
+ * @author Ryder James
+ */
+public class IndexedDeck implements Iterable<Card> {
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private final HashMap<Card, Positions> my_index = new HashMap<>();
+	private Card[] my_slots = new Card[DEFAULT_CAPACITY];
+	private int my_end;
+	private int my_size;
+
+	/**
+	 * Initializes a new deck with any number of {@code Card} objects
+	 *
+	 * @param initialCards - the {@code Card} objects to initially add to the deck, if any
+	 */
+	public IndexedDeck(Card... initialCards) {
+		add(initialCards);
+	}
+
+	/**
+	 * Adds a {@code Card} to the top of the deck
+	 *
+	 * @param toAdd
+	 */
+	public void add(Card toAdd) {
+		if (toAdd == null) {
+			throw new IllegalArgumentException("Card must not be null!");
+		}
+		if (my_end == my_slots.length) {
+			my_slots = Arrays.copyOf(my_slots, my_slots.length * 2);
+		}
+
+		my_slots[my_end] = toAdd;
+		my_index.computeIfAbsent(toAdd, card -> new Positions()).addLast(my_end);
+		my_end++;
+		my_size++;
+	}
+
+	/**
+	 * Adds any number of {@code Card} objects to the deck
+	 *
+	 * @param cardsToAdd
+	 */
+	public void add(Card... cardsToAdd) {
+		for (Card card : cardsToAdd) {
+			add(card);
+		}
+	}
+
+	/**
+	 * Removes the lowest {@code Card} equal to the given one from the deck
+	 *
+	 * @param toRemove
+	 * @return true if a {@code Card} was removed
+	 */
+	public boolean remove(Card toRemove) {
+		Positions positions = my_index.get(toRemove);
+
+		if (positions == null) {
+			return false;
+		}
+
+		my_slots[positions.removeFirst()] = null;
+		if (positions.isEmpty()) {
+			my_index.remove(toRemove);
+		}
+		my_size--;
+		trimTop();
+		if (my_end - my_size > my_size) {
+			compact();
+		}
+		return true;
+	}
+
+	/**
+	 * Removes any number of specific {@code Card} objects from the deck
+	 *
+	 * @param cardsToRemove
+	 */
+	public void remove(Card... cardsToRemove) {
+		for (Card card : cardsToRemove) {
+			remove(card);
+		}
+	}
+
+	/**
+	 * @param card
+	 * @return true if the deck holds a {@code Card} equal to the given one
+	 */
+	public boolean contains(Card card) {
+		return my_index.containsKey(card);
+	}
+
+	/**
+	 * @param card
+	 * @return the number of {@code Card} objects in the deck equal to the given one
+	 */
+	public int count(Card card) {
+		Positions positions = my_index.get(card);
+		return positions == null ? 0 : positions.size();
+	}
+
+	/**
+	 * Draws a {@code Card} off the "top" (the highest index) of the deck, removing it from the
+	 * deck
+	 *
+	 * @return the drawn {@code Card}
+	 */
+	public Card draw() {
+		if (my_size == 0) {
+			throw new IllegalStateException("Not enough cards in the deck!");
+		}
+
+		Card result = my_slots[--my_end];
+		Positions positions = my_index.get(result);
+
+		positions.removeLast();
+		if (positions.isEmpty()) {
+			my_index.remove(result);
+		}
+		my_slots[my_end] = null;
+		my_size--;
+		trimTop();
+		return result;
+	}
+
+	/**
+	 * Draws a certain number of {@code Card} objects off the "top" (the highest index) of the
+	 * deck, removing them from the deck
+	 *
+	 * @param numberToDraw - the number of {@code Card} objects to draw
+	 * @return a deck containing all the drawn {@code Card} objects, with the old top card at
+	 *         index 0
+	 */
+	public IndexedDeck draw(int numberToDraw) {
+		if (numberToDraw < 1) {
+			throw new IllegalArgumentException("Must draw at least 1 card!");
+		} else if (numberToDraw > my_size) {
+			throw new IllegalArgumentException("Not enough cards in the deck!");
+		}
+
+		IndexedDeck deck = new IndexedDeck();
+		for (int i = 0; i < numberToDraw; i++) {
+			deck.add(draw());
+		}
+		return deck;
+	}
+
+	/**
+	 * @return the number of {@code Card} objects in this deck
+	 */
+	public int size() {
+		return my_size;
+	}
+
+	/**
+	 * @return true if the number of {@code Card} objects in this deck is 0
+	 */
+	public boolean isEmpty() {
+		return my_size == 0;
+	}
+
+	/**
+	 * Shuffles the deck with a Fisher-Yates shuffle, so every ordering is equally likely
+	 */
+	public void shuffle() {
+		shuffle(ThreadLocalRandom.current());
+	}
+
+	/**
+	 * Shuffles the deck with a Fisher-Yates shuffle. Shuffling equal decks with the same seed
+	 * always produces the same order.
+	 *
+	 * @param seed - the seed for the random number generator
+	 */
+	public void shuffle(long seed) {
+		shuffle(new SplittableRandom(seed));
+	}
+
+	/**
+	 * Shuffles the deck with a Fisher-Yates shuffle, drawing random numbers from the given
+	 * generator
+	 *
+	 * @param random - the random number generator to use
+	 */
+	public void shuffle(Random random) {
+		shuffle(random::nextInt);
+	}
+
+	/**
+	 * Shuffles the deck with a Fisher-Yates shuffle, drawing random numbers from the given
+	 * generator
+	 *
+	 * @param random - the random number generator to use
+	 */
+	public void shuffle(SplittableRandom random) {
+		shuffle(random::nextInt);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder result = new StringBuilder("[");
+		for (Card card : this) {
+			if (result.length() > 1) {
+				result.append(", ");
+			}
+			result.append(card);
+		}
+		return result.append(']').toString();
+	}
+
+	@Override
+	public Iterator<Card> iterator() {
+		return new Iterator<Card>() {
+			private int my_next = skipEmpty(0);
+
+			@Override
+			public boolean hasNext() {
+				return my_next < my_end;
+			}
+
+			@Override
+			public Card next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException("No more cards!");
+				}
+				Card card = my_slots[my_next];
+				my_next = skipEmpty(my_next + 1);
+				return card;
+			}
+		};
+	}
+
+	/**
+	 * @param nextInt - returns a random int from 0 (inclusive) to its argument (exclusive)
+	 */
+	private void shuffle(IntUnaryOperator nextInt) {
+		compact();
+		for (int i = my_size - 1; i > 0; i--) {
+			int j = nextInt.applyAsInt(i + 1);
+			Card temp = my_slots[i];
+			my_slots[i] = my_slots[j];
+			my_slots[j] = temp;
+		}
+		reindex();
+	}
+
+	/**
+	 * @return the index of the first card at or after {@code from}
+	 */
+	private int skipEmpty(int from) {
+		while (from < my_end && my_slots[from] == null) {
+			from++;
+		}
+		return from;
+	}
+
+	/**
+	 * Drops empty slots from the top, so the top slot always holds a card
+	 */
+	private void trimTop() {
+		while (my_end > 0 && my_slots[my_end - 1] == null) {
+			my_end--;
+		}
+	}
+
+	/**
+	 * Moves every card down over the empty slots, keeping their order, and rebuilds the index
+	 */
+	private void compact() {
+		if (my_end == my_size) {
+			return;
+		}
+
+		int next = 0;
+		for (int i = 0; i < my_end; i++) {
+			if (my_slots[i] != null) {
+				my_slots[next++] = my_slots[i];
+			}
+		}
+		Arrays.fill(my_slots, next, my_end, null);
+		my_end = next;
+		reindex();
+	}
+
+	private void reindex() {
+		my_index.clear();
+		for (int i = 0; i < my_end; i++) {
+			my_index.computeIfAbsent(my_slots[i], card -> new Positions()).addLast(i);
+		}
+	}
+
+	/**
+	 * The slots holding one card, in ascending order
+	 */
+	private static final class Positions {
+		private int[] my_values = new int[2];
+		private int my_head;
+		private int my_size;
+
+		private void addLast(int position) {
+			if (my_size == my_values.length) {
+				int[] grown = new int[my_values.length * 2];
+				for (int i = 0; i < my_size; i++) {
+					grown[i] = my_values[(my_head + i) % my_values.length];
+				}
+				my_values = grown;
+				my_head = 0;
+			}
+			my_values[(my_head + my_size++) % my_values.length] = position;
+		}
+
+		private int removeFirst() {
+			int position = my_values[my_head];
+			my_head = (my_head + 1) % my_values.length;
+			my_size--;
+			return position;
+		}
+
+		private int removeLast() {
+			return my_values[(my_head + --my_size) % my_values.length];
+		}
+
+		private int size() {
+			return my_size;
+		}
+
+		private boolean isEmpty() {
+			return my_size == 0;
+		}
+	}
+}
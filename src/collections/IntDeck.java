@@ -0,0 +1,329 @@
+package collections;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntUnaryOperator;
+
+import interfaces.Card;
+import interfaces.CardCodec;
+
+/**
+ * A deck of cards stored as primitive {@code int} codes, with no object per card, so a deck is a
+ * single array however many cards it holds. A {@link CardCodec} converts between codes and
+ * {@code Card} objects when a card needs to be looked at.
+ * <p>
+ * The codes can instead be kept off the heap in a direct buffer. That is meant for a few large
+ * decks, such as a many-deck shoe or a deck shared with native code: every direct buffer is a
+ * separate native allocation with its own cleanup for the garbage collector to process, so it
+ * costs more than a heap array for the many small decks of a simulation.
+ * <p>
+ * As in {@link Deck}, the "top" of the deck is the highest index.
+ *
+ * @author Ryder James
+ */
+public class IntDeck {
+	private static final int DEFAULT_CAPACITY = 52;
+
+	private final boolean my_direct;
+	private IntBuffer my_codes;
+	private int my_size;
+
+	/**
+	 * Initializes a new, empty deck on the heap
+	 */
+	public IntDeck() {
+		this(DEFAULT_CAPACITY, false);
+	}
+
+	/**
+	 * Initializes a new, empty deck
+	 *
+	 * @param initialCapacity - the number of cards to make room for
+	 * @param direct - when true, the codes are stored off the heap. Meant for a few large decks.
+	 */
+	public IntDeck(int initialCapacity, boolean direct) {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("Capacity must not be negative!");
+		}
+		my_direct = direct;
+		my_codes = allocate(initialCapacity, direct);
+	}
+
+	/**
+	 * Encodes every {@code Card} of a {@code Deck}, keeping their order
+	 *
+	 * @param cards - the cards to encode
+	 * @param codec - converts each card to its code
+	 * @param direct - when true, the codes are stored off the heap
+	 * @return a new deck of the encoded cards
+	 */
+	@SuppressWarnings("unchecked")
+	public static <C extends Card> IntDeck encode(Deck cards, CardCodec<C> codec, boolean direct) {
+		IntDeck deck = new IntDeck(cards.size(), direct);
+		for (Card card : cards) {
+			deck.add(codec.encode((C) card));
+		}
+		return deck;
+	}
+
+	/**
+	 * Decodes every code of this deck, keeping their order
+	 *
+	 * @param codec - converts each code to its card
+	 * @return a new {@code Deck} of the decoded cards
+	 */
+	public <C extends Card> Deck decode(CardCodec<C> codec) {
+		Deck deck = new Deck();
+		for (int i = 0; i < my_size; i++) {
+			deck.add(codec.decode(my_codes.get(i)));
+		}
+		return deck;
+	}
+
+	/**
+	 * Adds a card to the top of the deck
+	 *
+	 * @param code - the code of the card
+	 */
+	public void add(int code) {
+		ensureCapacity(1);
+		my_codes.put(my_size++, code);
+	}
+
+	/**
+	 * Adds any number of cards to the top of the deck, in order
+	 *
+	 * @param codes - the codes of the cards
+	 */
+	public void add(int... codes) {
+		ensureCapacity(codes.length);
+		my_codes.position(my_size);
+		my_codes.put(codes);
+		my_codes.clear();
+		my_size += codes.length;
+	}
+
+	/**
+	 * Adds every remaining code of a buffer to the top of the deck, in order, with a single bulk
+	 * copy. The buffer's position is moved to its limit.
+	 *
+	 * @param codes - the codes of the cards
+	 */
+	public void add(IntBuffer codes) {
+		int count = codes.remaining();
+		ensureCapacity(count);
+		my_codes.position(my_size);
+		my_codes.put(codes);
+		my_codes.clear();
+		my_size += count;
+	}
+
+	/**
+	 * Removes the first card with the given code, if there is one
+	 *
+	 * @param code - the code of the card
+	 * @return true if a card was removed
+	 */
+	public boolean remove(int code) {
+		for (int i = 0; i < my_size; i++) {
+			if (my_codes.get(i) == code) {
+				move(i + 1, i, my_size - i - 1);
+				my_size--;
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Draws the top card, removing it from the deck
+	 *
+	 * @return the code of the drawn card
+	 */
+	public int draw() {
+		if (my_size == 0) {
+			throw new IllegalStateException("Not enough cards in the deck!");
+		}
+		return my_codes.get(--my_size);
+	}
+
+	/**
+	 * Draws a certain number of cards off the top of the deck, removing them from the deck. The
+	 * drawn deck holds the cards in the order they were drawn, with the old top card at index 0.
+	 * It is always stored on the heap, as drawn hands are usually small.
+	 *
+	 * @param numberToDraw - the number of cards to draw
+	 * @return a deck of the drawn cards
+	 */
+	public IntDeck draw(int numberToDraw) {
+		if (numberToDraw < 1) {
+			throw new IllegalArgumentException("Must draw at least 1 card!");
+		} else if (numberToDraw > my_size) {
+			throw new IllegalArgumentException("Not enough cards in the deck!");
+		}
+
+		IntDeck deck = new IntDeck(numberToDraw, false);
+		for (int i = 0; i < numberToDraw; i++) {
+			deck.my_codes.put(i, my_codes.get(my_size - 1 - i));
+		}
+		deck.my_size = numberToDraw;
+		my_size -= numberToDraw;
+
+		return deck;
+	}
+
+	/**
+	 * @param index - the index of the card, where the top card is at {@code size() - 1}
+	 * @return the code of the card at the given index
+	 */
+	public int get(int index) {
+		if (index < 0 || index >= my_size) {
+			throw new IndexOutOfBoundsException(
+					"Index " + index + " out of bounds for size " + my_size);
+		}
+		return my_codes.get(index);
+	}
+
+	/**
+	 * @return the number of cards in the deck
+	 */
+	public int size() {
+		return my_size;
+	}
+
+	/**
+	 * @return true if the number of cards in this deck is 0
+	 */
+	public boolean isEmpty() {
+		return my_size == 0;
+	}
+
+	/**
+	 * @return true if the codes are stored off the heap
+	 */
+	public boolean isDirect() {
+		return my_direct;
+	}
+
+	/**
+	 * Removes every card, keeping the allocated capacity for reuse
+	 */
+	public void clear() {
+		my_size = 0;
+	}
+
+	/**
+	 * Shuffles the deck with a Fisher-Yates shuffle, so every ordering is equally likely
+	 */
+	public void shuffle() {
+		shuffle(ThreadLocalRandom.current());
+	}
+
+	/**
+	 * Shuffles the deck with a Fisher-Yates shuffle. Shuffling equal decks with the same seed
+	 * always produces the same order.
+	 *
+	 * @param seed - the seed for the random number generator
+	 */
+	public void shuffle(long seed) {
+		shuffle(new SplittableRandom(seed));
+	}
+
+	/**
+	 * Shuffles the deck with a Fisher-Yates shuffle, drawing random numbers from the given
+	 * generator
+	 *
+	 * @param random - the random number generator to use
+	 */
+	public void shuffle(Random random) {
+		shuffle(random::nextInt);
+	}
+
+	/**
+	 * Shuffles the deck with a Fisher-Yates shuffle, drawing random numbers from the given
+	 * generator
+	 *
+	 * @param random - the random number generator to use
+	 */
+	public void shuffle(SplittableRandom random) {
+		shuffle(random::nextInt);
+	}
+
+	/**
+	 * @return a new array containing the codes in this deck, from the bottom to the top
+	 */
+	public int[] toArray() {
+		int[] codes = new int[my_size];
+		my_codes.get(codes);
+		my_codes.clear();
+		return codes;
+	}
+
+	/**
+	 * @return a read-only view of the codes in this deck, from the bottom to the top, that shares
+	 *         its storage. Only valid until the deck is next changed.
+	 */
+	IntBuffer view() {
+		IntBuffer view = my_codes.asReadOnlyBuffer();
+		view.limit(my_size);
+		return view;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder result = new StringBuilder("[");
+		for (int i = 0; i < my_size; i++) {
+			if (i > 0) {
+				result.append(", ");
+			}
+			result.append(my_codes.get(i));
+		}
+		return result.append(']').toString();
+	}
+
+	/**
+	 * @param nextInt - returns a random int from 0 (inclusive) to its argument (exclusive)
+	 */
+	private void shuffle(IntUnaryOperator nextInt) {
+		for (int i = my_size - 1; i > 0; i--) {
+			int j = nextInt.applyAsInt(i + 1);
+			int temp = my_codes.get(i);
+			my_codes.put(i, my_codes.get(j));
+			my_codes.put(j, temp);
+		}
+	}
+
+	/**
+	 * Copies a run of codes within the buffer
+	 */
+	private void move(int from, int to, int length) {
+		IntBuffer source = my_codes.duplicate();
+		source.position(from).limit(from + length);
+		my_codes.position(to);
+		my_codes.put(source);
+		my_codes.clear();
+	}
+
+	private void ensureCapacity(int additional) {
+		if (my_size + additional > my_codes.capacity()) {
+			IntBuffer grown = allocate(Math.max(my_codes.capacity() * 2, my_size + additional),
+					my_direct);
+			my_codes.limit(my_size);
+			grown.put(my_codes);
+			grown.clear();
+			my_codes = grown;
+		}
+	}
+
+	private static IntBuffer allocate(int capacity, boolean direct) {
+		if (direct) {
+			return ByteBuffer.allocateDirect(capacity * Integer.BYTES).order(ByteOrder.nativeOrder())
+					.asIntBuffer();
+		}
+		return IntBuffer.allocate(capacity);
+	}
+}
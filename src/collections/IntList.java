@@ -0,0 +1,115 @@
+package collections;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * A growable list of primitive {@code int} values. Values are stored unboxed in a single array,
+ * which is reused across {@link #clear()} calls.
+ * 
+ * @author Ryder James
+ */
+public class IntList {
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private int[] my_values;
+	private int my_size;
+
+	/**
+	 * Initializes a new, empty list
+	 */
+	public IntList() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Initializes a new, empty list that can hold the given number of values before growing
+	 * 
+	 * @param initialCapacity - the number of values to make room for
+	 */
+	public IntList(int initialCapacity) {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("Capacity must not be negative!");
+		}
+		my_values = new int[initialCapacity];
+	}
+
+	/**
+	 * Adds a value to the end of the list
+	 * 
+	 * @param value
+	 */
+	public void add(int value) {
+		if (my_size == my_values.length) {
+			my_values = Arrays.copyOf(my_values, Math.max(DEFAULT_CAPACITY, my_size * 2));
+		}
+		my_values[my_size++] = value;
+	}
+
+	/**
+	 * @param index - the index of the value
+	 * @return the value at the given index
+	 */
+	public int get(int index) {
+		checkIndex(index);
+		return my_values[index];
+	}
+
+	/**
+	 * Replaces the value at the given index
+	 * 
+	 * @param index - the index of the value
+	 * @param value - the new value
+	 */
+	public void set(int index, int value) {
+		checkIndex(index);
+		my_values[index] = value;
+	}
+
+	/**
+	 * @return the number of values in the list
+	 */
+	public int size() {
+		return my_size;
+	}
+
+	/**
+	 * @return true if the number of values in this list is 0
+	 */
+	public boolean isEmpty() {
+		return my_size == 0;
+	}
+
+	/**
+	 * Removes every value, keeping the allocated capacity for reuse
+	 */
+	public void clear() {
+		my_size = 0;
+	}
+
+	/**
+	 * @return a new array containing the values in this list
+	 */
+	public int[] toArray() {
+		return Arrays.copyOf(my_values, my_size);
+	}
+
+	/**
+	 * @return a sequential stream over the values in this list, without copying them
+	 */
+	public IntStream stream() {
+		return Arrays.stream(my_values, 0, my_size);
+	}
+
+	@Override
+	public String toString() {
+		return Arrays.toString(toArray());
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= my_size) {
+			throw new IndexOutOfBoundsException(
+					"Index " + index + " out of bounds for size " + my_size);
+		}
+	}
+}
@@ -0,0 +1,185 @@
+package collections;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.TreeMap;
+
+import interfaces.Card;
+
+/**
+ * A hand of cards that is always in ascending order, for evaluating a hand as cards are dealt into
+ * and played from it. Adding or removing a card costs O(log n), where n is the number of distinct
+ * cards, instead of re-sorting the whole hand.
+ * <p>
+ * Cards that compare as equal are all kept, in the order they were added.
+ *
+ * @author Ryder James
+ */
+public class SortedHand implements Iterable<Card> {
+	private final TreeMap<Card, ArrayDeque<Card>> my_cards = new TreeMap<>();
+	private int my_size;
+
+	/**
+	 * Initializes a new hand with any number of {@code Card} objects
+	 *
+	 * @param initialCards - the {@code Card} objects to initially add to the hand, if any
+	 */
+	public SortedHand(Card... initialCards) {
+		for (Card card : initialCards) {
+			add(card);
+		}
+	}
+
+	/**
+	 * Adds a {@code Card} to the hand
+	 *
+	 * @param toAdd
+	 */
+	public void add(Card toAdd) {
+		if (toAdd == null) {
+			throw new IllegalArgumentException("Card must not be null!");
+		}
+		my_cards.computeIfAbsent(toAdd, card -> new ArrayDeque<>(1)).addLast(toAdd);
+		my_size++;
+	}
+
+	/**
+	 * Draws a certain number of cards off the top of a deck into this hand
+	 *
+	 * @param deck - the deck to draw from
+	 * @param numberToDraw - the number of {@code Card} objects to draw
+	 */
+	public void drawFrom(Deck deck, int numberToDraw) {
+		if (numberToDraw > deck.size()) {
+			throw new IllegalArgumentException("Not enough cards in the deck!");
+		}
+		for (int i = 0; i < numberToDraw; i++) {
+			add(deck.draw());
+		}
+	}
+
+	/**
+	 * Removes one {@code Card} that compares as equal to the given one
+	 *
+	 * @param toRemove
+	 * @return true if a {@code Card} was removed
+	 */
+	public boolean remove(Card toRemove) {
+		ArrayDeque<Card> equal = my_cards.get(toRemove);
+
+		if (equal == null) {
+			return false;
+		}
+
+		equal.removeFirst();
+		if (equal.isEmpty()) {
+			my_cards.remove(toRemove);
+		}
+		my_size--;
+		return true;
+	}
+
+	/**
+	 * Removes and returns the lowest {@code Card} in the hand
+	 *
+	 * @return the removed {@code Card}
+	 */
+	public Card removeLowest() {
+		return removeFrom(my_cards.firstEntry());
+	}
+
+	/**
+	 * Removes and returns the highest {@code Card} in the hand
+	 *
+	 * @return the removed {@code Card}
+	 */
+	public Card removeHighest() {
+		return removeFrom(my_cards.lastEntry());
+	}
+
+	/**
+	 * @return the lowest {@code Card} in the hand
+	 */
+	public Card lowest() {
+		checkNotEmpty();
+		return my_cards.firstEntry().getValue().peekFirst();
+	}
+
+	/**
+	 * @return the highest {@code Card} in the hand
+	 */
+	public Card highest() {
+		checkNotEmpty();
+		return my_cards.lastEntry().getValue().peekFirst();
+	}
+
+	/**
+	 * @param card
+	 * @return true if the hand holds a {@code Card} that compares as equal to the given one
+	 */
+	public boolean contains(Card card) {
+		return my_cards.containsKey(card);
+	}
+
+	/**
+	 * @param card
+	 * @return the number of {@code Card} objects in the hand that compare as equal to the given one
+	 */
+	public int count(Card card) {
+		ArrayDeque<Card> equal = my_cards.get(card);
+		return equal == null ? 0 : equal.size();
+	}
+
+	/**
+	 * @return the number of {@code Card} objects in the hand
+	 */
+	public int size() {
+		return my_size;
+	}
+
+	/**
+	 * @return true if the number of {@code Card} objects in this hand is 0
+	 */
+	public boolean isEmpty() {
+		return my_size == 0;
+	}
+
+	/**
+	 * @return an iterator over the hand in ascending order
+	 */
+	@Override
+	public Iterator<Card> iterator() {
+		return my_cards.values().stream().flatMap(ArrayDeque::stream).iterator();
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder result = new StringBuilder("[");
+		for (Card card : this) {
+			if (result.length() > 1) {
+				result.append(", ");
+			}
+			result.append(card);
+		}
+		return result.append(']').toString();
+	}
+
+	private Card removeFrom(Map.Entry<Card, ArrayDeque<Card>> entry) {
+		checkNotEmpty();
+
+		Card card = entry.getValue().removeFirst();
+		if (entry.getValue().isEmpty()) {
+			my_cards.remove(entry.getKey());
+		}
+		my_size--;
+		return card;
+	}
+
+	private void checkNotEmpty() {
+		if (my_size == 0) {
+			throw new NoSuchElementException("The hand is empty!");
+		}
+	}
+}
@@ -0,0 +1,221 @@
+package console;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Writes arrays as text in a single pass, straight to any {@code Appendable}, such as a
+ * {@code StringBuilder}, a {@link ConsoleOutput} or any other {@code Writer}. No intermediate copy
+ * of the whole rendering is ever built, so very large arrays can be printed directly.
+ * <p>
+ * Primitive arrays are rendered without boxing. When the destination is a {@code StringBuilder} or
+ * a {@code ConsoleOutput}, whole numbers are also appended without allocating.
+ *
+ * @author Ryder James
+ */
+public final class ArrayRenderer {
+	/**
+	 * Renders arrays as "{a, b, c}", skipping null elements
+	 */
+	public static final ArrayRenderer DEFAULT = new ArrayRenderer("{", "}", ", ", true);
+
+	private final String my_open;
+	private final String my_close;
+	private final String my_separator;
+	private final boolean my_skipNulls;
+
+	/**
+	 * Creates a renderer that separates elements with ", " and skips null elements
+	 *
+	 * @param container - two characters: the one to open the array with, then the one to close it
+	 */
+	public ArrayRenderer(String container) {
+		this(opening(container), closing(container), ", ", true);
+	}
+
+	/**
+	 * Creates a renderer
+	 *
+	 * @param open - printed before the first element
+	 * @param close - printed after the last element
+	 * @param separator - printed between elements
+	 * @param skipNulls - when true, null elements are left out entirely; otherwise they are
+	 *            printed as "null"
+	 */
+	public ArrayRenderer(String open, String close, String separator, boolean skipNulls) {
+		if (open == null || close == null || separator == null) {
+			throw new IllegalArgumentException("Brackets and separator must not be null!");
+		}
+		my_open = open;
+		my_close = close;
+		my_separator = separator;
+		my_skipNulls = skipNulls;
+	}
+
+	/**
+	 * Appends an array to the given destination
+	 *
+	 * @param arr - the array to render
+	 * @param out - where to append the rendering
+	 * @return out
+	 */
+	public <A extends Appendable> A render(Object[] arr, A out) {
+		try {
+			out.append(my_open);
+			boolean first = true;
+			for (Object element : arr) {
+				if (element == null && my_skipNulls) {
+					continue;
+				}
+				if (!first) {
+					out.append(my_separator);
+				}
+				out.append(String.valueOf(element));
+				first = false;
+			}
+			out.append(my_close);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return out;
+	}
+
+	/**
+	 * Appends an array to the given destination
+	 *
+	 * @param arr - the array to render
+	 * @param out - where to append the rendering
+	 * @return out
+	 */
+	public <A extends Appendable> A render(int[] arr, A out) {
+		try {
+			out.append(my_open);
+			for (int i = 0; i < arr.length; i++) {
+				if (i > 0) {
+					out.append(my_separator);
+				}
+				appendLong(arr[i], out);
+			}
+			out.append(my_close);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return out;
+	}
+
+	/**
+	 * Appends an array to the given destination
+	 *
+	 * @param arr - the array to render
+	 * @param out - where to append the rendering
+	 * @return out
+	 */
+	public <A extends Appendable> A render(long[] arr, A out) {
+		try {
+			out.append(my_open);
+			for (int i = 0; i < arr.length; i++) {
+				if (i > 0) {
+					out.append(my_separator);
+				}
+				appendLong(arr[i], out);
+			}
+			out.append(my_close);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return out;
+	}
+
+	/**
+	 * Appends an array to the given destination
+	 *
+	 * @param arr - the array to render
+	 * @param out - where to append the rendering
+	 * @return out
+	 */
+	public <A extends Appendable> A render(double[] arr, A out) {
+		try {
+			out.append(my_open);
+			for (int i = 0; i < arr.length; i++) {
+				if (i > 0) {
+					out.append(my_separator);
+				}
+				if (out instanceof StringBuilder) {
+					((StringBuilder) out).append(arr[i]);
+				} else {
+					out.append(String.valueOf(arr[i]));
+				}
+			}
+			out.append(my_close);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return out;
+	}
+
+	/**
+	 * @param arr - the array to render
+	 * @return the rendering as a {@code String}
+	 */
+	public String toString(Object[] arr) {
+		return render(arr, new StringBuilder(capacity(arr.length, 16))).toString();
+	}
+
+	/**
+	 * @param arr - the array to render
+	 * @return the rendering as a {@code String}
+	 */
+	public String toString(int[] arr) {
+		return render(arr, new StringBuilder(capacity(arr.length, 8))).toString();
+	}
+
+	/**
+	 * @param arr - the array to render
+	 * @return the rendering as a {@code String}
+	 */
+	public String toString(long[] arr) {
+		return render(arr, new StringBuilder(capacity(arr.length, 8))).toString();
+	}
+
+	/**
+	 * @param arr - the array to render
+	 * @return the rendering as a {@code String}
+	 */
+	public String toString(double[] arr) {
+		return render(arr, new StringBuilder(capacity(arr.length, 12))).toString();
+	}
+
+	/**
+	 * Estimates the size of a rendering, capped so a huge array doesn't reserve far more than it
+	 * needs up front
+	 */
+	private static int capacity(int length, int perElement) {
+		return (int) Math.min(1 << 20, (long) length * perElement + 2);
+	}
+
+	private static void appendLong(long value, Appendable out) throws IOException {
+		if (out instanceof StringBuilder) {
+			((StringBuilder) out).append(value);
+		} else if (out instanceof ConsoleOutput) {
+			((ConsoleOutput) out).print(value);
+		} else {
+			out.append(Long.toString(value));
+		}
+	}
+
+	private static String opening(String container) {
+		checkContainer(container);
+		return container.substring(0, 1);
+	}
+
+	private static String closing(String container) {
+		checkContainer(container);
+		return container.substring(1);
+	}
+
+	private static void checkContainer(String container) {
+		if (container == null || container.length() != 2) {
+			throw new IllegalArgumentException("Container must consist of exactly 2 characters!");
+		}
+	}
+}
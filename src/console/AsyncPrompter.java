@@ -0,0 +1,454 @@
+package console;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Runs blocking prompts on a background thread and hands back their results as
+ * {@code CompletableFuture}s. Prompts run one at a time, in submission order.
+ * <p>
+ * A dedicated reader thread reads lines from the original source into a queue, one line each time
+ * a prompt asks for one, and otherwise leaves the source alone. Prompts must read from
+ * {@link #input()}, which takes lines from that queue one at a time. Between lines, a prompt
+ * checks whether it has timed out or been cancelled, and if so it stops without taking another
+ * line, so an abandoned prompt never consumes input meant for whatever comes next. A prompt that
+ * times out or is cancelled before it starts is skipped.
+ * <p>
+ * {@link #shutdown()} hands the source back, along with any line that was read for a prompt that
+ * never took it.
+ *
+ * @author Ryder James
+ */
+public final class AsyncPrompter {
+	private static final long POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+	// Queued after the last line, or once the reader has stopped for a shutdown; compared by
+	// identity
+	private static final String END_OF_INPUT = new String();
+	private static final String HANDED_BACK = new String();
+
+	private final ThreadLocal<Prompt<?>> my_running = new ThreadLocal<>();
+	private final LineSource my_input = new LineSource(new QueuedLines());
+	private final Thread my_reader;
+	private final ExecutorService my_prompts;
+	private final ScheduledExecutorService my_timer;
+	private final Set<Prompt<?>> my_outstanding = ConcurrentHashMap.newKeySet();
+	private final LineSource my_source;
+	private final Lock my_lock = new ReentrantLock();
+	private final Condition my_requested = my_lock.newCondition();
+	private final Condition my_arrived = my_lock.newCondition();
+	private volatile IOException my_failure;
+	private volatile boolean my_shutdown;
+
+	// Guarded by my_lock: lines read but not yet taken, and what the reader thread is doing
+	private final ArrayDeque<String> my_lines = new ArrayDeque<>();
+	private boolean my_lineWanted;
+	private boolean my_reading;
+
+	/**
+	 * Creates an {@code AsyncPrompter} that reads lines from the given source, starting its reader
+	 * thread right away
+	 *
+	 * @param name - the name of the reader thread
+	 * @param source - the source to read lines from. Nothing else may read from it afterwards.
+	 */
+	public AsyncPrompter(String name, LineSource source) {
+		if (source == null) {
+			throw new IllegalArgumentException("Source must not be null!");
+		}
+
+		my_source = source;
+		my_prompts = Executors.newSingleThreadExecutor(daemonThreads(name + "-prompts"));
+		my_timer = Executors.newSingleThreadScheduledExecutor(daemonThreads(name + "-timer"));
+		my_reader = daemonThreads(name).newThread(this::read);
+		my_reader.start();
+	}
+
+	/**
+	 * @return the source that submitted prompts must read their responses from. Reading it outside
+	 *         of a submitted prompt simply waits for the next line.
+	 */
+	public LineSource input() {
+		return my_input;
+	}
+
+	/**
+	 * Runs a prompt on the prompt thread
+	 *
+	 * @param prompt - the prompt to run, reading from {@link #input()}
+	 * @return a future completed with the prompt's result
+	 */
+	public <T> CompletableFuture<T> submit(Supplier<T> prompt) {
+		return submit(new Prompt<>(prompt, 0, null));
+	}
+
+	/**
+	 * Runs a prompt on the prompt thread, giving up on it after the timeout
+	 *
+	 * @param prompt - the prompt to run, reading from {@link #input()}
+	 * @param timeout - how long to wait for a response
+	 * @param unit - the unit of the timeout
+	 * @param defaultValue - the value to complete the future with if the timeout elapses
+	 * @return a future completed with the prompt's result, or defaultValue on timeout
+	 */
+	public <T> CompletableFuture<T> submit(Supplier<T> prompt, long timeout, TimeUnit unit,
+			T defaultValue) {
+		Prompt<T> timed = new Prompt<>(prompt, Math.max(1, unit.toNanos(timeout)), defaultValue);
+
+		CompletableFuture<T> result = submit(timed);
+
+		// Times out a prompt still waiting for its turn; once it runs, it times itself out
+		my_timer.schedule(timed::expireIfWaiting, timeout, unit);
+		return result;
+	}
+
+	/**
+	 * Stops the prompt, reader and timer threads and hands the source back. Prompts that have not
+	 * finished are cancelled.
+	 * <p>
+	 * The reader thread is never interrupted, as that would close an interruptible channel. If it
+	 * is not reading, it stops right away and the original source is returned. If a cancelled
+	 * prompt had asked it for a line, it stops once that line arrives, and the source returned
+	 * gives that line and any others left unread before carrying on with the original source.
+	 *
+	 * @return the source to read from from now on
+	 */
+	public LineSource shutdown() {
+		boolean handBack;
+
+		// Once this is set no prompt takes another line, so what is queued now stays queued
+		my_lock.lock();
+		try {
+			my_shutdown = true;
+			handBack = my_reading;
+			for (String line : my_lines) {
+				handBack |= line != END_OF_INPUT && line != HANDED_BACK;
+			}
+			my_requested.signalAll();
+			my_arrived.signalAll();
+		} finally {
+			my_lock.unlock();
+		}
+
+		// Cancelled before anything is interrupted, so the running prompt sees it was abandoned
+		for (Prompt<?> prompt : my_outstanding) {
+			prompt.my_result.cancel(false);
+		}
+		my_prompts.shutdownNow();
+		my_timer.shutdownNow();
+
+		return handBack ? new LineSource(new HandedBackLines()) : my_source;
+	}
+
+	private <T> CompletableFuture<T> submit(Prompt<T> prompt) {
+		if (my_shutdown) {
+			throw new IllegalStateException("AsyncPrompter has been shut down!");
+		}
+		my_outstanding.add(prompt);
+		prompt.my_result.whenComplete((value, error) -> my_outstanding.remove(prompt));
+		my_prompts.execute(prompt);
+		return prompt.my_result;
+	}
+
+	/**
+	 * Runs on the reader thread, queueing a line of the source each time one is asked for
+	 */
+	private void read() {
+		String last = HANDED_BACK;
+
+		try {
+			while (awaitRequest()) {
+				if (!my_source.nextLine()) {
+					last = END_OF_INPUT;
+					break;
+				}
+				queue(my_source.line() + '\n');
+			}
+		} catch (RuntimeException e) {
+			my_failure = new IOException("Reading input failed", e);
+			last = END_OF_INPUT;
+		} finally {
+			queue(last);
+		}
+	}
+
+	/**
+	 * Waits on the reader thread until a line is asked for
+	 *
+	 * @return true to read a line, or false if the prompter has been shut down
+	 */
+	private boolean awaitRequest() {
+		my_lock.lock();
+		try {
+			while (!my_lineWanted && !my_shutdown) {
+				my_requested.await();
+			}
+			if (my_shutdown) {
+				return false;
+			}
+			my_lineWanted = false;
+			my_reading = true;
+			return true;
+		} catch (InterruptedException e) {
+			return false;
+		} finally {
+			my_lock.unlock();
+		}
+	}
+
+	/**
+	 * Queues a line read by the reader thread, together with marking the read as finished
+	 */
+	private void queue(String line) {
+		my_lock.lock();
+		try {
+			my_lines.add(line);
+			my_reading = false;
+			my_arrived.signalAll();
+		} finally {
+			my_lock.unlock();
+		}
+	}
+
+	/**
+	 * Asks the reader thread for a line, unless one is already being read. Called with my_lock
+	 * held and the queue empty.
+	 */
+	private void request() {
+		if (!my_reading) {
+			my_lineWanted = true;
+			my_requested.signal();
+		}
+	}
+
+	private void putBack(String line) {
+		my_lock.lock();
+		try {
+			my_lines.addFirst(line);
+		} finally {
+			my_lock.unlock();
+		}
+	}
+
+	private static ThreadFactory daemonThreads(String name) {
+		return runnable -> {
+			Thread thread = new Thread(runnable, name);
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	/**
+	 * A submitted prompt and the future for its result
+	 */
+	private final class Prompt<T> implements Runnable {
+		private final CompletableFuture<T> my_result = new CompletableFuture<>();
+		private final Supplier<T> my_prompt;
+		private final long my_timeout;
+		private final T my_default;
+		private final long my_deadline;
+		private boolean my_started;
+
+		/**
+		 * @param timeout - the timeout in nanoseconds, or 0 for none
+		 */
+		private Prompt(Supplier<T> prompt, long timeout, T defaultValue) {
+			my_prompt = prompt;
+			my_timeout = timeout;
+			my_default = defaultValue;
+			my_deadline = System.nanoTime() + timeout;
+		}
+
+		@Override
+		public void run() {
+			synchronized (this) {
+				if (my_result.isDone()) {
+					return;
+				}
+				my_started = true;
+			}
+
+			my_running.set(this);
+			try {
+				my_result.complete(my_prompt.get());
+			} catch (Throwable t) {
+				// Does nothing if the prompt stopped because it was abandoned
+				my_result.completeExceptionally(t);
+			} finally {
+				my_running.remove();
+			}
+		}
+
+		/**
+		 * Called by the timer. A prompt that has started is left to notice its deadline itself,
+		 * between lines, so it is never abandoned halfway through handling one.
+		 */
+		private synchronized void expireIfWaiting() {
+			if (!my_started) {
+				my_result.complete(my_default);
+			}
+		}
+
+		/**
+		 * @return true if the prompt has timed out or was completed from outside, such as by
+		 *         being cancelled
+		 */
+		private boolean isAbandoned() {
+			if (my_timeout > 0 && remaining() <= 0) {
+				my_result.complete(my_default);
+			}
+			return my_result.isDone();
+		}
+
+		/**
+		 * @return how long until the prompt times out, in nanoseconds
+		 */
+		private long remaining() {
+			return my_timeout > 0 ? my_deadline - System.nanoTime() : Long.MAX_VALUE;
+		}
+	}
+
+	/**
+	 * Hands the queued lines to the prompts one at a time
+	 */
+	private final class QueuedLines extends Reader {
+		private String my_line = "";
+		private int my_position;
+
+		@Override
+		public int read(char[] buffer, int offset, int length) throws IOException {
+			if (my_position == my_line.length()) {
+				String line = take();
+				if (line == END_OF_INPUT) {
+					// Leave it for every read after this one
+					putBack(line);
+					if (my_failure != null) {
+						throw my_failure;
+					}
+					return -1;
+				}
+				my_line = line;
+				my_position = 0;
+			}
+
+			int read = Math.min(length, my_line.length() - my_position);
+			my_line.getChars(my_position, my_position + read, buffer, offset);
+			my_position += read;
+			return read;
+		}
+
+		/**
+		 * Takes the next line for the running prompt, checking whether it has been abandoned
+		 * while it waits. The check and the take happen together under my_lock, so a line is
+		 * never taken by a prompt that has been abandoned or after a shutdown.
+		 *
+		 * @throws CancellationException if the prompt has been abandoned or the prompter shut
+		 *             down
+		 */
+		private String take() throws InterruptedIOException {
+			Prompt<?> prompt = my_running.get();
+
+			my_lock.lock();
+			try {
+				do {
+					if (my_shutdown || prompt != null && prompt.isAbandoned()) {
+						throw new CancellationException("Prompt abandoned");
+					}
+
+					String line = my_lines.poll();
+					if (line != null) {
+						return line;
+					}
+
+					request();
+					if (prompt == null) {
+						my_arrived.await();
+					} else {
+						my_arrived.awaitNanos(Math.min(POLL_NANOS, prompt.remaining()));
+					}
+				} while (true);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Interrupted while waiting for input");
+			} finally {
+				my_lock.unlock();
+			}
+		}
+
+		@Override
+		public void close() {}
+	}
+
+	/**
+	 * After a shutdown, gives the lines the reader thread read but no prompt took, then reads the
+	 * original source directly
+	 */
+	private final class HandedBackLines extends Reader {
+		private String my_line = "";
+		private int my_position;
+		private boolean my_drained;
+
+		@Override
+		public int read(char[] buffer, int offset, int length) throws IOException {
+			if (my_position == my_line.length()) {
+				String line = my_drained ? null : take();
+
+				if (line == END_OF_INPUT || line == HANDED_BACK) {
+					// The reader thread has stopped, so the source is free
+					my_drained = true;
+					line = null;
+				}
+				if (line == null) {
+					if (!my_source.nextLine()) {
+						return -1;
+					}
+					line = my_source.line() + '\n';
+				}
+				my_line = line;
+				my_position = 0;
+			}
+
+			int read = Math.min(length, my_line.length() - my_position);
+			my_line.getChars(my_position, my_position + read, buffer, offset);
+			my_position += read;
+			return read;
+		}
+
+		/**
+		 * Takes the next queued line, waiting for the reader thread to finish its read if there
+		 * is none. The reader thread always queues a marker last, so this never waits for good.
+		 */
+		private String take() throws InterruptedIOException {
+			my_lock.lock();
+			try {
+				while (my_lines.isEmpty()) {
+					my_arrived.await();
+				}
+				return my_lines.poll();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Interrupted while waiting for input");
+			} finally {
+				my_lock.unlock();
+			}
+		}
+
+		@Override
+		public void close() {}
+	}
+}
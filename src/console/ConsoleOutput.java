@@ -0,0 +1,278 @@
+package console;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A buffered, batched destination for console output. Everything printed is collected in a single
+ * reusable buffer and only handed to the target {@code Writer} when {@link #flush()} is called, so
+ * a whole prompt cycle (menu, error text and prompt) reaches the target in one write.
+ * <p>
+ * Every method holds a lock, so other threads, such as a heartbeat printing while an asynchronous
+ * prompt waits for input, may print to the same output safely. It is a {@code ReentrantLock}
+ * rather than a monitor, so a virtual thread blocked writing to a slow client is not pinned to
+ * its carrier thread.
+ *
+ * @author Ryder James
+ */
+public final class ConsoleOutput extends Writer {
+	private static final int DEFAULT_CAPACITY = 1024;
+	// A buffer grown past this by one large write is let go once it has been flushed
+	private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+	private static final String LINE_SEPARATOR = System.lineSeparator();
+
+	private final Writer my_target;
+	private final ReentrantLock my_lock = new ReentrantLock();
+	private char[] my_buffer;
+	private int my_length;
+
+	/**
+	 * Creates a {@code ConsoleOutput} that writes to the given {@code Writer}
+	 *
+	 * @param target - the {@code Writer} to write to when flushed
+	 */
+	public ConsoleOutput(Writer target) {
+		if (target == null) {
+			throw new IllegalArgumentException("Target must not be null!");
+		}
+		my_target = target;
+		my_buffer = new char[DEFAULT_CAPACITY];
+	}
+
+	/**
+	 * Creates a {@code ConsoleOutput} that encodes to the given stream using the default charset
+	 *
+	 * @param stream - the {@code OutputStream} to write to when flushed
+	 */
+	public ConsoleOutput(OutputStream stream) {
+		this(new OutputStreamWriter(stream, Charset.defaultCharset()));
+	}
+
+	/**
+	 * Creates a {@code ConsoleOutput} that encodes to the given channel using the default charset
+	 *
+	 * @param channel - the {@code WritableByteChannel} to write to when flushed
+	 */
+	public ConsoleOutput(WritableByteChannel channel) {
+		this(Channels.newWriter(channel, Charset.defaultCharset().newEncoder(), -1));
+	}
+
+	/**
+	 * Appends a {@code String} to the buffer. A null {@code String} is printed as "null".
+	 *
+	 * @param s - the {@code String} to append
+	 */
+	public void print(String s) {
+		my_lock.lock();
+		try {
+			if (s == null) {
+				s = "null";
+			}
+
+			int length = s.length();
+			ensureCapacity(length);
+			s.getChars(0, length, my_buffer, my_length);
+			my_length += length;
+		} finally {
+			my_lock.unlock();
+		}
+	}
+
+	/**
+	 * Appends a single character to the buffer
+	 *
+	 * @param c - the character to append
+	 */
+	public void print(char c) {
+		my_lock.lock();
+		try {
+			ensureCapacity(1);
+			my_buffer[my_length++] = c;
+		} finally {
+			my_lock.unlock();
+		}
+	}
+
+	/**
+	 * Appends the decimal representation of a {@code long} to the buffer without allocating
+	 *
+	 * @param l - the value to append
+	 */
+	public void print(long l) {
+		my_lock.lock();
+		try {
+			if (l == Long.MIN_VALUE) {
+				print(String.valueOf(l));
+				return;
+			}
+
+			ensureCapacity(20);
+
+			if (l < 0) {
+				my_buffer[my_length++] = '-';
+				l = -l;
+			}
+
+			int end = my_length + digits(l);
+			for (int i = end - 1; i >= my_length; i--) {
+				my_buffer[i] = (char) ('0' + l % 10);
+				l /= 10;
+			}
+			my_length = end;
+		} finally {
+			my_lock.unlock();
+		}
+	}
+
+	/**
+	 * Appends a line separator to the buffer
+	 */
+	public void println() {
+		print(LINE_SEPARATOR);
+	}
+
+	/**
+	 * Appends a {@code String} followed by a line separator to the buffer
+	 *
+	 * @param s - the {@code String} to append
+	 */
+	public void println(String s) {
+		my_lock.lock();
+		try {
+			print(s);
+			println();
+		} finally {
+			my_lock.unlock();
+		}
+	}
+
+	@Override
+	public void write(char[] chars, int offset, int length) {
+		my_lock.lock();
+		try {
+			ensureCapacity(length);
+			System.arraycopy(chars, offset, my_buffer, my_length, length);
+			my_length += length;
+		} finally {
+			my_lock.unlock();
+		}
+	}
+
+	@Override
+	public void write(int c) {
+		print((char) c);
+	}
+
+	@Override
+	public void write(String s, int offset, int length) {
+		my_lock.lock();
+		try {
+			ensureCapacity(length);
+			s.getChars(offset, offset + length, my_buffer, my_length);
+			my_length += length;
+		} finally {
+			my_lock.unlock();
+		}
+	}
+
+	/**
+	 * Writes everything buffered to the target in a single write and flushes the target. Does
+	 * nothing if the buffer is empty. If the buffer had grown unusually large, it is shrunk back
+	 * afterwards.
+	 */
+	@Override
+	public void flush() {
+		my_lock.lock();
+		try {
+			if (my_length == 0) {
+				return;
+			}
+
+			final boolean measured = PromptMetrics.isEnabled();
+			final Object event = measured ? PromptMetrics.beginOutputEvent() : null;
+			final long start = measured ? System.nanoTime() : 0;
+
+			try {
+				my_target.write(my_buffer, 0, my_length);
+				my_target.flush();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			} finally {
+				if (measured) {
+					PromptMetrics.recordOutput(my_length, System.nanoTime() - start, event);
+				}
+				my_length = 0;
+				if (my_buffer.length > MAX_RETAINED_CAPACITY) {
+					my_buffer = new char[DEFAULT_CAPACITY];
+				}
+			}
+		} finally {
+			my_lock.unlock();
+		}
+	}
+
+	/**
+	 * Flushes anything buffered and closes the target
+	 */
+	@Override
+	public void close() {
+		my_lock.lock();
+		try {
+			try {
+				flush();
+				my_target.close();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		} finally {
+			my_lock.unlock();
+		}
+	}
+
+	/**
+	 * @return the number of characters waiting to be flushed
+	 */
+	public int pending() {
+		my_lock.lock();
+		try {
+			return my_length;
+		} finally {
+			my_lock.unlock();
+		}
+	}
+
+	/**
+	 * @return the number of characters the buffer can hold before it has to grow
+	 */
+	int capacity() {
+		my_lock.lock();
+		try {
+			return my_buffer.length;
+		} finally {
+			my_lock.unlock();
+		}
+	}
+
+	private void ensureCapacity(int additional) {
+		if (my_length + additional > my_buffer.length) {
+			char[] grown = new char[Math.max(my_buffer.length * 2, my_length + additional)];
+			System.arraycopy(my_buffer, 0, grown, 0, my_length);
+			my_buffer = grown;
+		}
+	}
+
+	private static int digits(long l) {
+		int digits = 1;
+		for (long bound = 10; digits < 19 && l >= bound; bound *= 10) {
+			digits++;
+		}
+		return digits;
+	}
+}
@@ -0,0 +1,568 @@
+package console;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * A socket server that hosts one {@link ConsoleSession} per connection, so a single process can
+ * serve many simultaneous menu sessions. All socket I/O for every connection is multiplexed over
+ * one selector thread. Each session's prompt logic runs on its own worker and blocks on its
+ * session's input exactly as it would on {@code System.in}. On Java 21 and later, workers are
+ * virtual threads, and a session waiting for its client holds only a {@code ReentrantLock}, never
+ * a monitor, so it does not pin a carrier thread; hundreds of idle sessions then cost a few
+ * platform threads. On earlier JVMs, workers are pooled daemon threads, so every open session
+ * costs one platform thread.
+ * <p>
+ * Inside the handler, the session is bound to the worker thread, so existing code written against
+ * the static {@code ConsoleUI} methods talks to the connected client without changes. When the
+ * handler returns, any remaining output is sent, the session is closed and so is the connection.
+ * If the client disconnects first, the session's next prompt ends the handler.
+ * <p>
+ * If the selector loop fails, the server stops and disconnects every session.
+ * {@link #isOpen()} then returns false, {@link #failure()} returns the error, and
+ * {@link #close()} throws it.
+ *
+ * @author Ryder James
+ */
+public final class ConsoleServer implements Closeable {
+	private static final int READ_BUFFER_SIZE = 8192;
+	private static final int INBOUND_LIMIT = 64 * 1024;
+	private static final int OUTBOUND_LIMIT = 64 * 1024;
+
+	private final Selector my_selector;
+	private final ServerSocketChannel my_server;
+	private final Consumer<ConsoleSession> my_handler;
+	private final ExecutorService my_workers;
+	private final Queue<Runnable> my_tasks = new ConcurrentLinkedQueue<>();
+	private final ByteBuffer my_readBuffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+	private final AtomicInteger my_sessionCount = new AtomicInteger();
+	private final Thread my_selectorThread;
+	private volatile boolean my_open = true;
+	private volatile IOException my_failure;
+	private boolean my_closed;
+
+	/**
+	 * Starts a server on the loopback interface
+	 *
+	 * @param port - the port to listen on, or 0 to pick any free port
+	 * @param handler - runs the console application for each connected session
+	 * @throws IOException if the server socket cannot be opened
+	 */
+	public ConsoleServer(int port, Consumer<ConsoleSession> handler) throws IOException {
+		this(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), handler);
+	}
+
+	/**
+	 * Starts a server on the given address
+	 *
+	 * @param address - the address to listen on
+	 * @param handler - runs the console application for each connected session
+	 * @throws IOException if the server socket cannot be opened
+	 */
+	public ConsoleServer(InetSocketAddress address, Consumer<ConsoleSession> handler)
+			throws IOException {
+		if (handler == null) {
+			throw new IllegalArgumentException("Handler must not be null!");
+		}
+
+		my_handler = handler;
+		my_selector = Selector.open();
+		my_server = ServerSocketChannel.open();
+		try {
+			my_server.bind(address);
+			my_server.configureBlocking(false);
+			my_server.register(my_selector, SelectionKey.OP_ACCEPT);
+		} catch (IOException e) {
+			my_server.close();
+			my_selector.close();
+			throw e;
+		}
+
+		my_workers = newWorkers();
+		my_selectorThread = new Thread(this::select, "ConsoleServer-selector");
+		my_selectorThread.setDaemon(true);
+		my_selectorThread.start();
+	}
+
+	/**
+	 * @return the address the server is listening on
+	 */
+	public InetSocketAddress address() {
+		try {
+			return (InetSocketAddress) my_server.getLocalAddress();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * @return the number of sessions currently connected
+	 */
+	public int sessionCount() {
+		return my_sessionCount.get();
+	}
+
+	/**
+	 * @return true until the server is closed or stops because its selector loop failed
+	 */
+	public boolean isOpen() {
+		return my_open;
+	}
+
+	/**
+	 * @return the error that stopped the selector loop, or null if it has not failed
+	 */
+	public IOException failure() {
+		return my_failure;
+	}
+
+	/**
+	 * Stops accepting connections and disconnects every session
+	 *
+	 * @throws IOException the error that stopped the selector loop, if it failed before the
+	 *             server was closed
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		if (my_closed) {
+			return;
+		}
+
+		my_closed = true;
+		my_open = false;
+		if (my_selectorThread.isAlive()) {
+			my_selector.wakeup();
+		}
+		try {
+			my_selectorThread.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		my_workers.shutdown();
+
+		if (my_failure != null) {
+			throw my_failure;
+		}
+	}
+
+	/**
+	 * Runs on the selector thread until the server is closed. If the loop fails, the failure is
+	 * kept for {@link #failure()} and {@link #close()}, and the server shuts down just as if it had
+	 * been closed.
+	 */
+	private void select() {
+		try {
+			while (my_open) {
+				my_selector.select();
+
+				for (Runnable task = my_tasks.poll(); task != null; task = my_tasks.poll()) {
+					task.run();
+				}
+
+				Iterator<SelectionKey> keys = my_selector.selectedKeys().iterator();
+				while (keys.hasNext()) {
+					SelectionKey key = keys.next();
+					keys.remove();
+
+					if (!key.isValid()) {
+						continue;
+					}
+					if (key.isAcceptable()) {
+						accept();
+						continue;
+					}
+
+					Connection connection = (Connection) key.attachment();
+					if (key.isReadable()) {
+						connection.read();
+					}
+					if (key.isValid() && key.isWritable()) {
+						connection.write();
+					}
+				}
+			}
+		} catch (IOException e) {
+			my_failure = e;
+		} catch (RuntimeException e) {
+			my_failure = new IOException("Selector loop failed", e);
+		} finally {
+			my_open = false;
+			for (SelectionKey key : my_selector.keys()) {
+				if (key.attachment() instanceof Connection) {
+					((Connection) key.attachment()).close();
+				}
+			}
+			closeQuietly(my_server);
+			closeQuietly(my_selector);
+		}
+	}
+
+	private void accept() throws IOException {
+		SocketChannel channel = my_server.accept();
+
+		if (channel == null) {
+			return;
+		}
+
+		channel.configureBlocking(false);
+		Connection connection = new Connection(channel);
+		connection.my_key = channel.register(my_selector, SelectionKey.OP_READ, connection);
+		my_sessionCount.incrementAndGet();
+		my_workers.execute(connection::serve);
+	}
+
+	/**
+	 * Runs a task on the selector thread, which owns every {@code SelectionKey}
+	 */
+	private void submit(Runnable task) {
+		my_tasks.add(task);
+		my_selector.wakeup();
+	}
+
+	private static ExecutorService newWorkers() {
+		try {
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor")
+					.invoke(null);
+		} catch (ReflectiveOperationException e) {
+			AtomicInteger count = new AtomicInteger();
+			return Executors.newCachedThreadPool(runnable -> {
+				Thread thread = new Thread(runnable,
+						"ConsoleServer-session-" + count.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+	}
+
+	private static void closeQuietly(Closeable closeable) {
+		try {
+			closeable.close();
+		} catch (IOException e) {
+			// Nothing left to do with it
+		}
+	}
+
+	/**
+	 * One connected client. The selector thread moves bytes between the socket and the inbound and
+	 * outbound buffers; the worker thread runs the session against those buffers.
+	 */
+	private final class Connection {
+		private final SocketChannel my_channel;
+		private final Inbound my_inbound = new Inbound();
+		private final Outbound my_outbound = new Outbound();
+		private SelectionKey my_key;
+		private boolean my_finished;
+		private boolean my_closed;
+
+		private Connection(SocketChannel channel) {
+			my_channel = channel;
+		}
+
+		/**
+		 * Runs the handler on the worker thread
+		 */
+		private void serve() {
+			ConsoleSession session = new ConsoleSession(my_inbound, my_outbound);
+
+			try {
+				session.run(() -> my_handler.accept(session));
+				session.output().flush();
+			} catch (NoSuchElementException | UncheckedIOException e) {
+				// The client disconnected
+			} finally {
+				session.close();
+				submit(this::finish);
+			}
+		}
+
+		private void read() {
+			int read;
+
+			my_readBuffer.clear();
+			try {
+				read = my_channel.read(my_readBuffer);
+			} catch (IOException e) {
+				close();
+				return;
+			}
+
+			if (read < 0) {
+				my_inbound.finish();
+				my_key.interestOps(my_key.interestOps() & ~SelectionKey.OP_READ);
+				return;
+			}
+
+			my_readBuffer.flip();
+			if (!my_inbound.offer(my_readBuffer)) {
+				my_key.interestOps(my_key.interestOps() & ~SelectionKey.OP_READ);
+			}
+		}
+
+		private void write() {
+			try {
+				if (my_outbound.drainTo(my_channel)) {
+					my_key.interestOps(my_key.interestOps() & ~SelectionKey.OP_WRITE);
+					if (my_finished) {
+						close();
+					}
+				}
+			} catch (IOException e) {
+				close();
+			}
+		}
+
+		private void resumeReading() {
+			if (my_key.isValid()) {
+				my_key.interestOps(my_key.interestOps() | SelectionKey.OP_READ);
+			}
+		}
+
+		private void resumeWriting() {
+			if (my_key.isValid()) {
+				my_key.interestOps(my_key.interestOps() | SelectionKey.OP_WRITE);
+			}
+		}
+
+		/**
+		 * Closes the connection once the handler has returned and its output has been sent
+		 */
+		private void finish() {
+			my_finished = true;
+			if (my_outbound.isEmpty()) {
+				close();
+			} else {
+				resumeWriting();
+			}
+		}
+
+		private void close() {
+			if (my_closed) {
+				return;
+			}
+
+			my_closed = true;
+			my_key.cancel();
+			closeQuietly(my_channel);
+			my_inbound.finish();
+			my_outbound.discard();
+			my_sessionCount.decrementAndGet();
+		}
+
+		/**
+		 * Bytes received from the client, waiting to be read by the session
+		 */
+		private final class Inbound extends InputStream {
+			private final ReentrantLock my_lock = new ReentrantLock();
+			private final Condition my_changed = my_lock.newCondition();
+			private byte[] my_bytes = new byte[READ_BUFFER_SIZE];
+			private int my_head;
+			private int my_tail;
+			private boolean my_endOfInput;
+			private boolean my_paused;
+
+			/**
+			 * Called on the selector thread
+			 *
+			 * @return false if the buffer is full and reading from the client should pause
+			 */
+			private boolean offer(ByteBuffer bytes) {
+				my_lock.lock();
+				try {
+					int length = bytes.remaining();
+
+					if (my_tail + length > my_bytes.length) {
+						int unread = my_tail - my_head;
+						if (unread + length > my_bytes.length) {
+							my_bytes = Arrays.copyOfRange(my_bytes, my_head,
+									Math.max(my_bytes.length * 2, unread + length));
+						} else {
+							System.arraycopy(my_bytes, my_head, my_bytes, 0, unread);
+						}
+						my_head = 0;
+						my_tail = unread;
+					}
+
+					bytes.get(my_bytes, my_tail, length);
+					my_tail += length;
+					my_paused = my_tail - my_head >= INBOUND_LIMIT;
+					my_changed.signalAll();
+					return !my_paused;
+				} finally {
+					my_lock.unlock();
+				}
+			}
+
+			private void finish() {
+				my_lock.lock();
+				try {
+					my_endOfInput = true;
+					my_changed.signalAll();
+				} finally {
+					my_lock.unlock();
+				}
+			}
+
+			@Override
+			public int read(byte[] b, int off, int len) throws IOException {
+				my_lock.lock();
+				try {
+					while (my_head == my_tail && !my_endOfInput) {
+						try {
+							my_changed.await();
+						} catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+							throw new InterruptedIOException();
+						}
+					}
+
+					if (my_head == my_tail) {
+						return -1;
+					}
+
+					int read = Math.min(len, my_tail - my_head);
+					System.arraycopy(my_bytes, my_head, b, off, read);
+					my_head += read;
+
+					if (my_paused && my_tail - my_head < INBOUND_LIMIT / 2) {
+						my_paused = false;
+						submit(Connection.this::resumeReading);
+					}
+
+					return read;
+				} finally {
+					my_lock.unlock();
+				}
+			}
+
+			@Override
+			public int read() throws IOException {
+				byte[] one = new byte[1];
+				return read(one, 0, 1) < 0 ? -1 : one[0] & 0xFF;
+			}
+
+			@Override
+			public int available() {
+				my_lock.lock();
+				try {
+					return my_tail - my_head;
+				} finally {
+					my_lock.unlock();
+				}
+			}
+		}
+
+		/**
+		 * Bytes printed by the session, waiting to be sent to the client
+		 */
+		private final class Outbound extends OutputStream {
+			private final ReentrantLock my_lock = new ReentrantLock();
+			private final Condition my_changed = my_lock.newCondition();
+			private final ArrayDeque<ByteBuffer> my_pending = new ArrayDeque<>();
+			private int my_pendingBytes;
+			private boolean my_discarded;
+
+			@Override
+			public void write(byte[] b, int off, int len) throws IOException {
+				my_lock.lock();
+				try {
+					while (my_pendingBytes >= OUTBOUND_LIMIT && !my_discarded) {
+						submit(Connection.this::resumeWriting);
+						try {
+							my_changed.await();
+						} catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+							throw new InterruptedIOException();
+						}
+					}
+
+					if (my_discarded) {
+						throw new IOException("Connection closed");
+					}
+
+					my_pending.add(ByteBuffer.wrap(Arrays.copyOfRange(b, off, off + len)));
+					my_pendingBytes += len;
+				} finally {
+					my_lock.unlock();
+				}
+			}
+
+			@Override
+			public void write(int b) throws IOException {
+				write(new byte[] { (byte) b }, 0, 1);
+			}
+
+			@Override
+			public void flush() {
+				submit(Connection.this::resumeWriting);
+			}
+
+			/**
+			 * Called on the selector thread
+			 *
+			 * @return true if every pending byte has been written
+			 */
+			private boolean drainTo(SocketChannel channel) throws IOException {
+				my_lock.lock();
+				try {
+					while (!my_pending.isEmpty()) {
+						ByteBuffer next = my_pending.peek();
+						my_pendingBytes -= channel.write(next);
+						if (next.hasRemaining()) {
+							break;
+						}
+						my_pending.poll();
+					}
+
+					my_changed.signalAll();
+					return my_pending.isEmpty();
+				} finally {
+					my_lock.unlock();
+				}
+			}
+
+			private boolean isEmpty() {
+				my_lock.lock();
+				try {
+					return my_pending.isEmpty();
+				} finally {
+					my_lock.unlock();
+				}
+			}
+
+			private void discard() {
+				my_lock.lock();
+				try {
+					my_pending.clear();
+					my_pendingBytes = 0;
+					my_discarded = true;
+					my_changed.signalAll();
+				} finally {
+					my_lock.unlock();
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,1431 @@
+package console;
+
+import java.io.Closeable;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.text.DecimalFormat;
+import java.text.NumberFormat;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import collections.DoubleList;
+import collections.IntList;
+import collections.LongList;
+import enums.IPType;
+import enums.PromptType;
+import interfaces.MenuOption;
+import static_classes.ConsoleUI;
+import static_classes.IPCodec;
+
+/**
+ * An interactive console session with the same prompt API as {@link ConsoleUI}, bound to its own
+ * input and output. Sessions let one JVM host any number of independent interactive consoles, for
+ * example one per connection of a {@link ConsoleServer}.
+ * <p>
+ * The static methods of {@code ConsoleUI} act on {@link #current()}: the session bound to the
+ * calling thread by {@link #run(Runnable)}, or otherwise the {@link #system()} session, which
+ * reads {@code System.in} and prints to {@code System.out}. A session keeps reusable buffers and
+ * is not thread-safe, so it should only be driven by one thread at a time. A session that has
+ * used asynchronous prompts should be closed when it is no longer needed.
+ * 
+ * @author Ryder James
+ */
+public class ConsoleSession implements Closeable {
+	private static final ThreadLocal<ConsoleSession> CURRENT = new ThreadLocal<>();
+	private static ConsoleSession system;
+
+	private final NumberParser my_parser = new NumberParser();
+	private final Map<Object, MenuText> my_menus = new WeakHashMap<>();
+	private final IntList my_badEntries = new IntList();
+
+	private LineSource my_in;
+	private ConsoleOutput my_out;
+	private Tokenizer my_tokenizer;
+	private AsyncPrompter my_prompter;
+
+	// The outermost prompt being measured for PromptMetrics, or null if none is
+	private PromptType my_measuredType;
+	private int my_promptDepth;
+	private boolean my_promptFailed;
+	private Object my_promptEvent;
+	private long my_promptStart;
+	private long my_waitNanos;
+	private int my_linesRead;
+
+	/**
+	 * Parses a single delimited entry and stores it, or a placeholder if it is invalid
+	 */
+	@FunctionalInterface
+	private interface EntryParser {
+		/**
+		 * @param chars - the characters to parse
+		 * @param from - the inclusive index of the first character
+		 * @param to - the exclusive index of the last character
+		 * @return true if the entry was valid
+		 */
+		boolean parse(char[] chars, int from, int to);
+	}
+
+	/**
+	 * Creates a session that reads from the given source and prints to the given output
+	 * 
+	 * @param in - the source to read responses from
+	 * @param out - the output to print to
+	 */
+	public ConsoleSession(LineSource in, ConsoleOutput out) {
+		if (in == null || out == null) {
+			throw new IllegalArgumentException("Input and output must not be null!");
+		}
+		my_in = in;
+		my_out = out;
+	}
+
+	/**
+	 * Creates a session that reads from and prints to the given streams
+	 * 
+	 * @param in - the stream to read responses from
+	 * @param out - the stream to print to
+	 */
+	public ConsoleSession(InputStream in, OutputStream out) {
+		this(new LineSource(in), new ConsoleOutput(out));
+	}
+
+	/**
+	 * Creates a session that reads from and prints to the given channels
+	 * 
+	 * @param in - the channel to read responses from
+	 * @param out - the channel to print to
+	 */
+	public ConsoleSession(ReadableByteChannel in, WritableByteChannel out) {
+		this(new LineSource(in), new ConsoleOutput(out));
+	}
+
+	/**
+	 * @return the session reading {@code System.in} and printing to {@code System.out}
+	 */
+	public static synchronized ConsoleSession system() {
+		if (system == null) {
+			system = new ConsoleSession(System.in, System.out);
+		}
+		return system;
+	}
+
+	/**
+	 * @return the session bound to the calling thread, or the {@link #system()} session if none is
+	 */
+	public static ConsoleSession current() {
+		ConsoleSession session = CURRENT.get();
+		return session == null ? system() : session;
+	}
+
+	/**
+	 * Runs a task with this session bound to the calling thread, so that any {@link ConsoleUI}
+	 * calls it makes act on this session.
+	 * 
+	 * @param task - the task to run
+	 */
+	public void run(Runnable task) {
+		call(() -> {
+			task.run();
+			return null;
+		});
+	}
+
+	/**
+	 * Runs a task with this session bound to the calling thread, so that any {@link ConsoleUI}
+	 * calls it makes act on this session.
+	 * 
+	 * @param task - the task to run
+	 * @return the result of the task
+	 */
+	public <T> T call(Supplier<T> task) {
+		ConsoleSession previous = CURRENT.get();
+
+		CURRENT.set(this);
+		try {
+			return task.get();
+		} finally {
+			if (previous == null) {
+				CURRENT.remove();
+			} else {
+				CURRENT.set(previous);
+			}
+		}
+	}
+
+	/**
+	 * Sets the source that every prompt reads its responses from. The source is shared by all
+	 * prompts, so lines piped in ahead of time are never lost between prompts. Any asynchronous
+	 * prompts still outstanding are cancelled.
+	 * 
+	 * @param source - the {@code LineSource} to read responses from
+	 */
+	public void setInput(LineSource source) {
+		if (source == null) {
+			throw new IllegalArgumentException("Input must not be null!");
+		}
+		stopPrompter();
+		my_in = source;
+	}
+
+	/**
+	 * Sets the {@code Reader} that every prompt reads its responses from.
+	 * 
+	 * @param reader - the {@code Reader} to read responses from
+	 * @see #setInput(LineSource)
+	 */
+	public void setInput(Reader reader) {
+		setInput(new LineSource(reader));
+	}
+
+	/**
+	 * Sets the {@code InputStream} that every prompt reads its responses from.
+	 * 
+	 * @param stream - the {@code InputStream} to read responses from
+	 * @see #setInput(LineSource)
+	 */
+	public void setInput(InputStream stream) {
+		setInput(new LineSource(stream));
+	}
+
+	/**
+	 * Sets the {@code ReadableByteChannel} that every prompt reads its responses from.
+	 * 
+	 * @param channel - the {@code ReadableByteChannel} to read responses from
+	 * @see #setInput(LineSource)
+	 */
+	public void setInput(ReadableByteChannel channel) {
+		setInput(new LineSource(channel));
+	}
+	
+	/**
+	 * Sets the destination of everything the prompts print. Output is collected for a whole prompt
+	 * cycle and written in one go, right before the prompt waits for input.
+	 * 
+	 * @param output - the {@code ConsoleOutput} to print to
+	 */
+	public void setOutput(ConsoleOutput output) {
+		if (output == null) {
+			throw new IllegalArgumentException("Output must not be null!");
+		}
+		my_out.flush();
+		my_out = output;
+	}
+
+	/**
+	 * Sets the {@code Writer} that the prompts print to.
+	 * 
+	 * @param writer - the {@code Writer} to print to
+	 * @see #setOutput(ConsoleOutput)
+	 */
+	public void setOutput(Writer writer) {
+		setOutput(new ConsoleOutput(writer));
+	}
+
+	/**
+	 * Sets the {@code OutputStream} that the prompts print to.
+	 * 
+	 * @param stream - the {@code OutputStream} to print to
+	 * @see #setOutput(ConsoleOutput)
+	 */
+	public void setOutput(OutputStream stream) {
+		setOutput(new ConsoleOutput(stream));
+	}
+
+	/**
+	 * Sets the {@code WritableByteChannel} that the prompts print to.
+	 * 
+	 * @param channel - the {@code WritableByteChannel} to print to
+	 * @see #setOutput(ConsoleOutput)
+	 */
+	public void setOutput(WritableByteChannel channel) {
+		setOutput(new ConsoleOutput(channel));
+	}
+
+	/**
+	 * Runs a prompt on a background thread instead of blocking the caller. While any asynchronous
+	 * prompt is outstanding, prompts should not also be called directly. A prompt that is
+	 * cancelled stops before it reads another line.
+	 * 
+	 * @param prompt - the prompt to run, such as {@code () -> ConsoleUI.promptForInt()}
+	 * @return a future completed with the prompt's result
+	 * @see AsyncPrompter
+	 */
+	public <T> CompletableFuture<T> promptAsync(Supplier<T> prompt) {
+		return prompter().submit(() -> call(prompt));
+	}
+
+	/**
+	 * Runs a prompt on a background thread instead of blocking the caller, completing with the
+	 * default value if no valid response arrives in time. While any asynchronous prompt is
+	 * outstanding, prompts should not also be called directly. A prompt that times out or is
+	 * cancelled stops before it reads another line, so the next line goes to whatever comes next.
+	 * 
+	 * @param prompt - the prompt to run, such as {@code () -> ConsoleUI.promptForInt()}
+	 * @param timeout - how long to wait for a response
+	 * @param unit - the unit of the timeout
+	 * @param defaultValue - the value to complete with if the timeout elapses
+	 * @return a future completed with the prompt's result, or defaultValue on timeout
+	 * @see AsyncPrompter
+	 */
+	public <T> CompletableFuture<T> promptAsync(Supplier<T> prompt, long timeout,
+			TimeUnit unit, T defaultValue) {
+		return prompter().submit(() -> call(prompt), timeout, unit, defaultValue);
+	}
+
+	/**
+	 * Generates a console-based menu using the values in options as the menu items. Reserves the
+	 * number 0 for the "Quit" option.
+	 * 
+	 * @param options - Strings representing the menu options
+	 * @return null if 0, or the enum value chosen
+	 */
+	public <T extends MenuOption> T promptForMenuSelection(T[] options) {
+		return promptForMenuSelection(options, true);
+	}
+
+	/**
+	 * Generates a console-based menu using the values in options as the menu items. Reserves the
+	 * number 0 for the "Quit" option.
+	 * 
+	 * @param options - Strings representing the menu options
+	 * @param withQuit - adds "Quit" as a zeroOption when true
+	 * @return null if 0, or the enum value chosen
+	 */
+	public <T extends MenuOption> T promptForMenuSelection(T[] options, boolean withQuit) {
+		return promptForMenuSelection(options, withQuit ? "Quit" : "");
+	}
+
+	/**
+	 * Generates a console-based menu using the values in options as the menu items. Reserves the
+	 * number 0 for the zeroOption, if provided.
+	 * 
+	 * @param options - Strings representing the menu options
+	 * @param zeroOption - A string representing what the number 0 should say
+	 * @return null if 0, or the enum value chosen
+	 */
+	public <T extends MenuOption> T promptForMenuSelection(T[] options, String zeroOption) {
+		int choice = promptForMenuChoice(cachedMenuText(options, zeroOption, Menu.DESCRIBE_OPTION),
+				options.length);
+		return choice == 0 ? null : options[choice - 1];
+	}
+
+	/**
+	 * Generates a console-based menu using the Strings in options as the menu items. Reserves the
+	 * number 0 for the "quit" option when withQuit is true.
+	 * 
+	 * @param options - Strings representing the menu options
+	 * @return the int of the selection made by the user
+	 */
+	public int promptForMenuSelection(String[] options) {
+		return promptForMenuSelection(options, true);
+	}
+
+	/**
+	 * Generates a console-based menu using the Strings in options as the menu items. Reserves the
+	 * number 0 for the "quit" option when withQuit is true.
+	 * 
+	 * @param options - Strings representing the menu options
+	 * @param withQuit - adds option 0 for "quit" when true
+	 * @return the int of the selection made by the user
+	 */
+	public int promptForMenuSelection(String[] options, boolean withQuit) {
+		return promptForMenuSelection(options, withQuit ? "Quit" : "");
+	}
+
+	/**
+	 * Generates a console-based menu using the Strings in options as the menu items. Reserves the
+	 * number 0 for the "quit" option when withQuit is true.
+	 * 
+	 * @param options - Strings representing the menu options
+	 * @param zeroOption - A string representing what the number 0 should say
+	 * @return the int of the selection made by the user
+	 */
+	public int promptForMenuSelection(String[] options, String zeroOption) {
+		return promptForMenuChoice(cachedMenuText(options, zeroOption, Menu.DESCRIBE_STRING),
+				options.length);
+	}
+
+	/**
+	 * Shows a registered menu and prompts for a selection. The menu is only re-rendered if one of
+	 * its descriptions has changed.
+	 * 
+	 * @param menu - the menu returned by {@link #registerMenu(MenuOption[], String) registerMenu()}
+	 * @return null if 0, or the option chosen
+	 */
+	public <T> T promptForMenuSelection(Menu<T> menu) {
+		return menu.option(promptForMenuChoice(menu));
+	}
+
+	/**
+	 * Shows a registered menu and prompts for a selection. The menu is only re-rendered if one of
+	 * its descriptions has changed.
+	 * 
+	 * @param menu - the menu returned by {@link #registerMenu(String[], String) registerMenu()}
+	 * @return the int of the selection made by the user
+	 */
+	public int promptForMenuChoice(Menu<?> menu) {
+		menu.render(output());
+		return promptForRenderedMenuChoice(menu.minChoice(), menu.maxChoice());
+	}
+
+	/**
+	 * Generates a prompt that expects the user to enter one of two responses that will equate to a
+	 * boolean value. This calls {@link #promptForBool(String, String, String) promptForBool()} with
+	 * a {@code trueString} of "yes" and a {@code falseString} of "no". Example: If the enters
+	 * "YES", the method returns true. If the user enters "no", the method returns false. All other
+	 * inputs are considered invalid, the user will be informed, and the prompt will repeat.
+	 * 
+	 * @return the boolean value
+	 */
+	public boolean promptForBool() {
+		return promptForBool("Enter \"yes\" or \"no\".", "Yes", "No");
+	}
+
+	/**
+	 * Generates a prompt that expects the user to enter one of two responses that will equate to a
+	 * boolean value. The trueString represents the case insensitive response that will equate to
+	 * true. The falseString acts similarly, but for a false boolean value. Example: Assume this
+	 * method is called with a trueString argument of "yes" and a falseString argument of "no". If
+	 * the enters "YES", the method returns true. If the user enters "no", the method returns false.
+	 * All other inputs are considered invalid, the user will be informed, and the prompt will
+	 * repeat.
+	 * 
+	 * @param prompt - the prompt to be displayed to the user
+	 * @param trueString - the case insensitive value that will evaluate to true
+	 * @param falseString - the case insensitive value that will evaluate to false
+	 * @return the boolean value
+	 */
+	public boolean promptForBool(String prompt, String trueString, String falseString) {
+		return promptForBool(prompt, trueString, falseString, true);
+	}
+
+	/**
+	 * Generates a prompt that expects the user to enter one of two responses that will equate to a
+	 * boolean value. The trueString represents the case insensitive response that will equate to
+	 * true. The falseString acts similarly, but for a false boolean value. Example: Assume this
+	 * method is called with a trueString argument of "yes" and a falseString argument of "no". If
+	 * the enters "YES", the method returns true. If the user enters "no", the method returns false.
+	 * All other inputs are considered invalid, the user will be informed, and the prompt will
+	 * repeat.
+	 * 
+	 * @param prompt - the prompt to be displayed to the user
+	 * @param trueString - the case insensitive value that will evaluate to true
+	 * @param falseString - the case insensitive value that will evaluate to false
+	 * @param appendColon - if true, appends ": " to the end of the prompt
+	 * @return the boolean value
+	 */
+	public boolean promptForBool(String prompt, String trueString, String falseString,
+			boolean appendColon) {
+		String input;
+
+		if (trueString.equals(falseString)) {
+			throw new IllegalArgumentException("trueString cannot equal falseString!");
+		}
+
+		beginPrompt(PromptType.BOOL);
+		try {
+			do {
+				input = promptForInput(prompt, true, appendColon);
+
+				if (input.equalsIgnoreCase(trueString)) {
+					return true;
+				} else if (input.equalsIgnoreCase(falseString)) {
+					return false;
+				} else {
+					output().println("Input must be " + trueString + " or " + falseString + "!");
+					continue;
+				}
+			} while (true);
+		} catch (RuntimeException e) {
+			failPrompt();
+			throw e;
+		} finally {
+			endPrompt();
+		}
+	}
+
+	/**
+	 * Generates a prompt that expects a numeric input representing a byte value. This method loops
+	 * until valid input is given.
+	 * 
+	 * @return the byte value
+	 */
+	public byte promptForByte() {
+		return promptForByte("Enter a byte");
+	}
+
+	/**
+	 * Generates a prompt that expects a numeric input representing a byte value. This method loops
+	 * until valid input is given.
+	 * 
+	 * @param prompt - the prompt to be displayed to the user
+	 * @return the byte value
+	 */
+	public byte promptForByte(String prompt) {
+		return promptForByte(prompt, Byte.MIN_VALUE, Byte.MAX_VALUE);
+	}
+
+	/**
+	 * Generates a prompt that expects a numeric input representing a byte value. This method loops
+	 * until valid input is given.
+	 * 
+	 * @param prompt - the prompt to be displayed to the user
+	 * @param min - the inclusive minimum boundary
+	 * @param max - the inclusive maximum boundary
+	 * @return the byte value
+	 */
+	public byte promptForByte(String prompt, byte min, byte max) {
+		return (byte) promptForWholeNumber(prompt, min, max);
+	}
+
+	/**
+	 * Generates a prompt that expects a numeric input representing a short value. This method loops
+	 * until valid input is given.
+	 * 
+	 * @return the short value
+	 */
+	public short promptForShort() {
+		return promptForShort("Enter a short");
+	}
+
+	/**
+	 * Generates a prompt that expects a numeric input representing a short value. This method loops
+	 * until valid input is given.
+	 * 
+	 * @param prompt - the prompt to be displayed to the user
+	 * @return the short value
+	 */
+	public short promptForShort(String prompt) {
+		return promptForShort(prompt, Short.MIN_VALUE, Short.MAX_VALUE);
+	}
+
+	/**
+	 * Generates a prompt that expects a numeric input representing a short value. This method loops
+	 * until valid input is given.
+	 * 
+	 * @param prompt - the prompt to be displayed to the user
+	 * @param min - the inclusive minimum boundary
+	 * @param max - the inclusive maximum boundary
+	 * @return the short value
+	 */
+	public short promptForShort(String prompt, short min, short max) {
+		return (short) promptForWholeNumber(prompt, min, max);
+	}
+
+	/**
+	 * Generates a prompt that expects a numeric input representing an int value. This method loops
+	 * until valid input is given.
+	 * 
+	 * @return the int value
+	 */
+	public int promptForInt() {
+		return promptForInt("Enter an integer");
+	}
+
+	/**
+	 * Generates a prompt that expects a numeric input representing an int value. This method loops
+	 * until valid input is given.
+	 * 
+	 * @param prompt - the prompt to be displayed to the user
+	 * @return the int value
+	 */
+	public int promptForInt(String prompt) {
+		return promptForInt(prompt, Integer.MIN_VALUE, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Generates a prompt that expects a numeric input representing an int value. This method loops
+	 * until valid input is given.
+	 * 
+	 * @param prompt - the prompt to be displayed to the user
+	 * @param min - the inclusive minimum boundary
+	 * @param max - the inclusive maximum boundary
+	 * @return the int value
+	 */
+	public int promptForInt(String prompt, int min, int max) {
+		return (int) promptForWholeNumber(prompt, min, max);
+	}
+
+	/**
+	 * Generates a prompt that expects a numeric input representing a long value. This method loops
+	 * until valid input is given.
+	 * 
+	 * @return the long value
+	 */
+	public long promptForLong() {
+		return promptForLong("Enter a long");
+	}
+
+	/**
+	 * Generates a prompt that expects a numeric input representing a long value. This method loops
+	 * until valid input is given.
+	 * 
+	 * @param prompt - the prompt to be displayed to the user
+	 * @return the long value
+	 */
+	public long promptForLong(String prompt) {
+		return promptForLong(prompt, Long.MIN_VALUE, Long.MAX_VALUE);
+	}
+
+	/**
+	 * Generates a prompt that expects a numeric input representing a long value. This method loops
+	 * until valid input is given.
+	 * 
+	 * @param prompt - the prompt to be displayed to the user
+	 * @param min - the inclusive minimum boundary
+	 * @param max - the inclusive maximum boundary
+	 * @return the long value
+	 */
+	public long promptForLong(String prompt, long min, long max) {
+		return promptForWholeNumber(prompt, min, max);
+	}
+
+	/**
+	 * Generates a prompt that expects a numeric input representing a float value. This method loops
+	 * until valid input is given.
+	 * 
+	 * @return the float value
+	 */
+	public float fromptForFloat() {
+		return promptForFloat("Enter a floating point number");
+	}
+
+	/**
+	 * Generates a prompt that expects a numeric input representing a float value. This method loops
+	 * until valid input is given.
+	 * 
+	 * @param prompt - the prompt to be displayed to the user
+	 * @return the float value
+	 */
+	public float promptForFloat(String prompt) {
+		return promptForFloat(prompt, Float.NEGATIVE_INFINITY, Float.MAX_VALUE);
+	}
+
+	/**
+	 * Generates a prompt that expects a numeric input representing a float value. This method loops
+	 * until valid input is given.
+	 * 
+	 * @param prompt - the prompt to be displayed to the user
+	 * @param min - the inclusive minimum boundary
+	 * @param max - the inclusive maximum boundary
+	 * @return the float value
+	 */
+	public float promptForFloat(String prompt, float min, float max) {
+		return (float) promptForNumber(prompt, min, max);
+	}
+
+	/**
+	 * Generates a prompt that expects a numeric input representing a double value. This method
+	 * loops until valid input is given.
+	 * 
+	 * @return the double value
+	 */
+	public double promptForDouble() {
+		return promptForDouble("Enter a floating point number");
+	}
+
+	/**
+	 * Generates a prompt that expects a numeric input representing a double value. This method
+	 * loops until valid input is given.
+	 * 
+	 * @param prompt - the prompt to be displayed to the user
+	 * @return the double value
+	 */
+	public double promptForDouble(String prompt) {
+		return promptForDouble(prompt, Double.NEGATIVE_INFINITY, Double.MAX_VALUE);
+	}
+
+	/**
+	 * Generates a prompt that expects a numeric input representing a double value. This method
+	 * loops until valid input is given.
+	 * 
+	 * @param prompt - the prompt to be displayed to the user
+	 * @param min - the inclusive minimum boundary
+	 * @param max - the inclusive maximum boundary
+	 * @return the double value
+	 */
+	public double promptForDouble(String prompt, double min, double max) {
+		return promptForNumber(prompt, min, max);
+	}
+
+	/**
+	 * Generates a prompt that expects a single letter input representing a char value. This method
+	 * loops until valid input is given.
+	 * 
+	 * @return the char value
+	 */
+	public char promptForLetter() {
+		return promptForChar("Enter a letter", 'A', 'z');
+	}
+
+	/**
+	 * Generates a prompt that expects a single character input representing a char value. This
+	 * method loops until valid input is given.
+	 * 
+	 * @return the char value
+	 */
+	public char promptForChar() {
+		return promptForChar("Enter a character");
+	}
+
+	/**
+	 * Generates a prompt that expects a single character input representing a char value. This
+	 * method loops until valid input is given.
+	 * 
+	 * @param prompt - the prompt to be displayed to the user
+	 * @return the char value
+	 */
+	public char promptForChar(String prompt) {
+		return promptForChar(prompt, Character.MIN_VALUE, Character.MAX_VALUE);
+	}
+
+	/**
+	 * Generates a prompt that expects a single character input representing a char value. This
+	 * method loops until valid input is given.
+	 * 
+	 * @param prompt - the prompt to be displayed to the user
+	 * @param min - the inclusive minimum boundary
+	 * @param max - the inclusive maximum boundary
+	 * @return the char value
+	 */
+	public char promptForChar(String prompt, char min, char max) {
+		String toParse;
+		char result;
+
+		if (min >= max) {
+			throw new IllegalArgumentException("Min must be less than max!");
+		}
+
+		beginPrompt(PromptType.CHAR);
+		try {
+			do {
+				toParse = promptForInput(prompt, false);
+				result = 0;
+
+				if (toParse.length() > 1) {
+					output().println("Input must be a single character!");
+					continue;
+				}
+
+				result = toParse.charAt(0);
+
+				if (result < min || result > max) {
+					output().println("Input must be from " + Character.valueOf(min) + " to "
+							+ Character.valueOf(max) + "!");
+					continue;
+				} else {
+					break;
+				}
+			} while (true);
+		} catch (RuntimeException e) {
+			failPrompt();
+			throw e;
+		} finally {
+			endPrompt();
+		}
+
+		return result;
+	}
+
+	/**
+	 * Generates a prompt that allows the user to enter an array of int values, separated by the
+	 * given delimiter. Entries that are not valid int values are reported by position and the user
+	 * is asked to re-enter only those entries.
+	 * 
+	 * @param prompt - the prompt to be displayed to the user
+	 * @param delimiter - the delimiter to separate array elements in the string
+	 * @return an array populated by the int values entered
+	 */
+	public int[] promptForIntArray(String prompt, String delimiter) {
+		return promptForIntArray(prompt, delimiter, new IntList()).toArray();
+	}
+
+	/**
+	 * Generates a prompt that allows the user to enter an array of int values, separated by the
+	 * given delimiter. Each entry is parsed straight out of the input buffer into the given list,
+	 * so very long lines are never split into intermediate Strings. Entries that are not valid
+	 * int values are reported by position and the user is asked to re-enter only those entries.
+	 * 
+	 * @param prompt - the prompt to be displayed to the user
+	 * @param delimiter - the delimiter to separate array elements in the string
+	 * @param into - the list to fill. It is cleared first, and can be reused between prompts.
+	 * @return the given list, populated by the int values entered
+	 */
+	public IntList promptForIntArray(String prompt, String delimiter, IntList into) {
+		IntList badEntries;
+
+		into.clear();
+		beginPrompt(PromptType.ARRAY);
+		try {
+			badEntries = promptForEntries(prompt, delimiter, "int", (chars, from, to) -> {
+				boolean isValid = my_parser.parseLong(chars, from, to, Integer.MIN_VALUE,
+						Integer.MAX_VALUE) == NumberParser.VALID;
+				into.add(isValid ? (int) my_parser.longValue() : 0);
+				return isValid;
+			});
+
+			for (int i = 0; i < badEntries.size(); i++) {
+				int entry = badEntries.get(i);
+				into.set(entry, promptForInt("Re-enter entry " + (entry + 1)));
+			}
+		} catch (RuntimeException e) {
+			failPrompt();
+			throw e;
+		} finally {
+			endPrompt();
+		}
+
+		return into;
+	}
+
+	/**
+	 * Generates a prompt that allows the user to enter an array of long values, separated by the
+	 * given delimiter. Entries that are not valid long values are reported by position and the user
+	 * is asked to re-enter only those entries.
+	 * 
+	 * @param prompt - the prompt to be displayed to the user
+	 * @param delimiter - the delimiter to separate array elements in the string
+	 * @return an array populated by the long values entered
+	 */
+	public long[] promptForLongArray(String prompt, String delimiter) {
+		return promptForLongArray(prompt, delimiter, new LongList()).toArray();
+	}
+
+	/**
+	 * Generates a prompt that allows the user to enter an array of long values, separated by the
+	 * given delimiter. Each entry is parsed straight out of the input buffer into the given list,
+	 * so very long lines are never split into intermediate Strings. Entries that are not valid
+	 * long values are reported by position and the user is asked to re-enter only those entries.
+	 * 
+	 * @param prompt - the prompt to be displayed to the user
+	 * @param delimiter - the delimiter to separate array elements in the string
+	 * @param into - the list to fill. It is cleared first, and can be reused between prompts.
+	 * @return the given list, populated by the long values entered
+	 */
+	public LongList promptForLongArray(String prompt, String delimiter, LongList into) {
+		IntList badEntries;
+
+		into.clear();
+		beginPrompt(PromptType.ARRAY);
+		try {
+			badEntries = promptForEntries(prompt, delimiter, "long", (chars, from, to) -> {
+				boolean isValid = my_parser.parseLong(chars, from, to, Long.MIN_VALUE,
+						Long.MAX_VALUE) == NumberParser.VALID;
+				into.add(isValid ? my_parser.longValue() : 0);
+				return isValid;
+			});
+
+			for (int i = 0; i < badEntries.size(); i++) {
+				int entry = badEntries.get(i);
+				into.set(entry, promptForLong("Re-enter entry " + (entry + 1)));
+			}
+		} catch (RuntimeException e) {
+			failPrompt();
+			throw e;
+		} finally {
+			endPrompt();
+		}
+
+		return into;
+	}
+
+	/**
+	 * Generates a prompt that allows the user to enter an array of double values, separated by the
+	 * given delimiter. Entries that are not valid double values are reported by position and the user
+	 * is asked to re-enter only those entries.
+	 * 
+	 * @param prompt - the prompt to be displayed to the user
+	 * @param delimiter - the delimiter to separate array elements in the string
+	 * @return an array populated by the double values entered
+	 */
+	public double[] promptForDoubleArray(String prompt, String delimiter) {
+		return promptForDoubleArray(prompt, delimiter, new DoubleList()).toArray();
+	}
+
+	/**
+	 * Generates a prompt that allows the user to enter an array of double values, separated by the
+	 * given delimiter. Each entry is parsed straight out of the input buffer into the given list,
+	 * so very long lines are never split into intermediate Strings. Entries that are not valid
+	 * double values are reported by position and the user is asked to re-enter only those entries.
+	 * 
+	 * @param prompt - the prompt to be displayed to the user
+	 * @param delimiter - the delimiter to separate array elements in the string
+	 * @param into - the list to fill. It is cleared first, and can be reused between prompts.
+	 * @return the given list, populated by the double values entered
+	 */
+	public DoubleList promptForDoubleArray(String prompt, String delimiter, DoubleList into) {
+		IntList badEntries;
+
+		into.clear();
+		beginPrompt(PromptType.ARRAY);
+		try {
+			badEntries = promptForEntries(prompt, delimiter, "double", (chars, from, to) -> {
+				boolean isValid = my_parser.parseDouble(chars, from, to, Double.NEGATIVE_INFINITY,
+						Double.MAX_VALUE) == NumberParser.VALID;
+				into.add(isValid ? my_parser.doubleValue() : 0);
+				return isValid;
+			});
+
+			for (int i = 0; i < badEntries.size(); i++) {
+				int entry = badEntries.get(i);
+				into.set(entry, promptForDouble("Re-enter entry " + (entry + 1)));
+			}
+		} catch (RuntimeException e) {
+			failPrompt();
+			throw e;
+		} finally {
+			endPrompt();
+		}
+
+		return into;
+	}
+
+	/**
+	 * Generates a prompt that allows the user to enter an array of Strings, which are denoted as
+	 * separate by the given delimiter.
+	 * 
+	 * @param prompt - the prompt to be displayed to the user
+	 * @param delimiter - the delimiter to separate array elements in the string
+	 * @return an array populated by elements from a given string
+	 */
+	public String[] promptForArray(String prompt, String delimiter) {
+		beginPrompt(PromptType.ARRAY);
+		try {
+			return promptForInput(prompt, true).split(delimiter);
+		} catch (RuntimeException e) {
+			failPrompt();
+			throw e;
+		} finally {
+			endPrompt();
+		}
+	}
+	
+	/**
+	 * Reads every remaining line of input as a delimited record, without prompting. Lines are read
+	 * lazily as the stream is consumed, so input of any size can be processed in constant memory.
+	 * 
+	 * @param delimiter - the delimiter separating fields
+	 * @return an ordered stream of records, each an array of trimmed fields
+	 * @see RecordReader
+	 */
+	public Stream<String[]> readRecords(String delimiter) {
+		output().flush();
+		return new RecordReader(input(), delimiter).stream();
+	}
+
+	/**
+	 * Prints rows as a column-aligned table. If the renderer splits the table into pages, the user
+	 * is asked after each page whether to show the next one.
+	 * 
+	 * @param renderer - lays out the table
+	 * @param header - the column titles, or null for no header
+	 * @param rows - the rows to print, read one at a time
+	 * @return true if every row was printed, or false if the user stopped early
+	 * @see TableRenderer
+	 */
+	public boolean printTable(TableRenderer renderer, Object[] header,
+			Iterator<? extends Object[]> rows) {
+		return renderer.render(header, rows, output(),
+				() -> promptForBool("Show more rows? (yes/no)", "Yes", "No"));
+	}
+	
+	public String promptForIP(IPType form) {
+		return promptForIP("Enter an IP in " + String.valueOf(form).toLowerCase() + " form", form);
+	}
+
+	/**
+	 * Generates a prompt that expects an IPv4 address in the given form. This method loops until
+	 * valid input is given.
+	 * 
+	 * @param prompt - the prompt to be displayed to the user
+	 * @param form - the form the address must be written in
+	 * @return the address as entered by the user
+	 */
+	public String promptForIP(String prompt, IPType form) {
+		promptForIPAddress(prompt, form);
+		return input().line();
+	}
+
+	/**
+	 * Generates a prompt that expects an IPv4 address in the given form. The address is parsed
+	 * straight out of the input buffer. This method loops until valid input is given.
+	 * 
+	 * @param prompt - the prompt to be displayed to the user
+	 * @param form - the form the address must be written in
+	 * @return the address packed into an int
+	 * @see IPCodec
+	 */
+	public int promptForIPAddress(String prompt, IPType form) {
+		final LineSource source = input();
+		long result;
+
+		beginPrompt(PromptType.IP);
+		try {
+			do {
+				awaitLine(prompt, false, true);
+				result = IPCodec.parse(source.lineView(), form);
+
+				if (result < 0) {
+					output().println(IPCodec.describe(result, form));
+				}
+			} while (result < 0);
+		} catch (RuntimeException e) {
+			failPrompt();
+			throw e;
+		} finally {
+			endPrompt();
+		}
+
+		return (int) result;
+	}
+
+	/**
+	 * Generates a prompt that expects an IPv6 address. This method loops until valid input is
+	 * given.
+	 * 
+	 * @param prompt - the prompt to be displayed to the user
+	 * @return the address as entered by the user
+	 */
+	public String promptForIPv6(String prompt) {
+		promptForIPv6Address(prompt, new long[2]);
+		return input().line();
+	}
+
+	/**
+	 * Generates a prompt that expects an IPv6 address. The address is parsed straight out of the
+	 * input buffer. This method loops until valid input is given.
+	 * 
+	 * @param prompt - the prompt to be displayed to the user
+	 * @param into - a two element array to receive the high and low 64 bits of the address
+	 * @return into
+	 * @see IPCodec
+	 */
+	public long[] promptForIPv6Address(String prompt, long[] into) {
+		final LineSource source = input();
+		long error;
+
+		beginPrompt(PromptType.IP);
+		try {
+			do {
+				awaitLine(prompt, false, true);
+
+				error = IPCodec.parseIPv6(source.lineView(), into);
+				if (error == 0) {
+					return into;
+				}
+				output().println(IPCodec.describe(error, null));
+			} while (true);
+		} catch (RuntimeException e) {
+			failPrompt();
+			throw e;
+		} finally {
+			endPrompt();
+		}
+	}
+
+	/**
+	 * Generates a prompt that allows the user to enter any response and returns the String.
+	 * 
+	 * @return the input from the user as a String
+	 */
+	public String promptForInput() {
+		return promptForInput("Enter a string");
+	}
+
+	/**
+	 * Generates a prompt that allows the user to enter any response and returns the String.
+	 * 
+	 * @param prompt - the prompt to be displayed to the user.
+	 * @return the input from the user as a String
+	 */
+	public String promptForInput(String prompt) {
+		return promptForInput(prompt, false);
+	}
+
+	/**
+	 * Generates a prompt that allows the user to enter any response and returns the String. When
+	 * allowEmpty is true, empty responses are valid. When false, responses must contain at least
+	 * one character (including whitespace).
+	 * 
+	 * @param prompt - the prompt to be displayed to the user.
+	 * @param allowEmpty - when true, makes empty responses valid
+	 * @return the input from the user as a String
+	 */
+	public String promptForInput(String prompt, boolean allowEmpty) {
+		return promptForInput(prompt, allowEmpty, true);
+	}
+	
+	/**
+	 * Generates a prompt that allows the user to enter any response and returns the String. When
+	 * allowEmpty is true, empty responses are valid. When false, responses must contain at least
+	 * one character (including whitespace).
+	 * 
+	 * @param prompt - the prompt to be displayed to the user.
+	 * @param allowEmpty - when true, makes empty responses valid
+	 * @param appendColon - when true, adds ": " to the end of the prompt
+	 * @return the input from the user as a String
+	 */
+	public String promptForInput(String prompt, boolean allowEmpty, boolean appendColon) {
+		beginPrompt(PromptType.TEXT);
+		try {
+			awaitLine(prompt, allowEmpty, appendColon);
+			return input().line();
+		} catch (RuntimeException e) {
+			failPrompt();
+			throw e;
+		} finally {
+			endPrompt();
+		}
+	}
+
+	/**
+	 * Generates a prompt that expects a numeric input representing a double value. This method
+	 * loops until valid input is given.
+	 * 
+	 * @param prompt - the prompt to be displayed to the user
+	 * @param min - the inclusive minimum boundary
+	 * @param max - the inclusive maximum boundary
+	 * @return the double value
+	 */
+	private double promptForNumber(String prompt, double min, double max) {
+		final LineSource source = input();
+
+		if (min > max) {
+			throw new IllegalArgumentException("Min must be less than max!");
+		}
+
+		beginPrompt(PromptType.NUMBER);
+		try {
+			do {
+				awaitLine(prompt, false, true);
+
+				switch (my_parser.parseDouble(source.buffer(), source.lineStart(), source.lineEnd(),
+						min, max)) {
+				case NumberParser.VALID:
+					return my_parser.doubleValue();
+				case NumberParser.OUT_OF_RANGE:
+					NumberFormat df = new DecimalFormat("#.##");
+					output().println(
+							"Input must be from " + df.format(min) + " to " + df.format(max) + "!");
+					break;
+				default:
+					output().println("Input must be a number!");
+					break;
+				}
+			} while (true);
+		} catch (RuntimeException e) {
+			failPrompt();
+			throw e;
+		} finally {
+			endPrompt();
+		}
+	}
+
+	/**
+	 * Generates a prompt that expects a whole number. The response is parsed exactly, straight out
+	 * of the input buffer, so valid responses are accepted without allocating. This method loops
+	 * until valid input is given.
+	 * 
+	 * @param prompt - the prompt to be displayed to the user
+	 * @param min - the inclusive minimum boundary
+	 * @param max - the inclusive maximum boundary
+	 * @return the long value
+	 */
+	private long promptForWholeNumber(String prompt, long min, long max) {
+		final LineSource source = input();
+
+		if (min > max) {
+			throw new IllegalArgumentException("Min must be less than max!");
+		}
+
+		beginPrompt(PromptType.NUMBER);
+		try {
+			do {
+				awaitLine(prompt, false, true);
+
+				switch (my_parser.parseLong(source.buffer(), source.lineStart(), source.lineEnd(),
+						min, max)) {
+				case NumberParser.VALID:
+					return my_parser.longValue();
+				case NumberParser.NOT_AN_INTEGER:
+					output().println("Input must not be a floating point number!");
+					break;
+				case NumberParser.OUT_OF_RANGE:
+					output().println("Input must be from " + min + " to " + max + "!");
+					break;
+				default:
+					output().println("Input must be a number!");
+					break;
+				}
+			} while (true);
+		} catch (RuntimeException e) {
+			failPrompt();
+			throw e;
+		} finally {
+			endPrompt();
+		}
+	}
+
+	/**
+	 * Prompts for a line of delimited entries and hands each entry to the parser, straight out of
+	 * the input buffer. Entries the parser rejects are reported by position. Trailing empty entries
+	 * are ignored, as {@link String#split(String)} would.
+	 * 
+	 * @param prompt - the prompt to be displayed to the user
+	 * @param delimiter - the delimiter to separate array elements in the string
+	 * @param type - the name of the expected type, for error messages
+	 * @param parser - parses and stores each entry
+	 * @return the zero-based positions of the rejected entries
+	 */
+	private IntList promptForEntries(String prompt, String delimiter, String type,
+			EntryParser parser) {
+		final LineSource source = input();
+		final Tokenizer tokens = tokenizer(delimiter);
+		int entry = 0;
+		int pendingEmptyEntries = 0;
+
+		my_badEntries.clear();
+		awaitLine(prompt, false, true);
+		tokens.reset(source.buffer(), source.lineStart(), source.lineEnd());
+
+		while (tokens.next()) {
+			if (tokens.isTokenEmpty()) {
+				pendingEmptyEntries++;
+				continue;
+			}
+
+			for (; pendingEmptyEntries > 0; pendingEmptyEntries--, entry++) {
+				parser.parse(source.buffer(), 0, 0);
+				my_badEntries.add(entry);
+				output().println("Entry " + (entry + 1) + " must not be empty!");
+			}
+
+			if (!parser.parse(source.buffer(), tokens.tokenStart(), tokens.tokenEnd())) {
+				my_badEntries.add(entry);
+				output().println("Entry " + (entry + 1) + " (\"" + tokens.token()
+						+ "\") must be of type " + type + "!");
+			}
+			entry++;
+		}
+
+		return my_badEntries;
+	}
+
+	/**
+	 * @param delimiter - the delimiter to separate array elements in the string
+	 * @return a {@code Tokenizer} for the delimiter, reusing the last one if the delimiter is the
+	 *         same
+	 */
+	private Tokenizer tokenizer(String delimiter) {
+		if (my_tokenizer == null || !my_tokenizer.delimiter().equals(delimiter)) {
+			my_tokenizer = new Tokenizer(delimiter);
+		}
+		return my_tokenizer;
+	}
+
+	/**
+	 * Finds the rendered text of a menu shown before, rendering it if this is the first time the
+	 * menu has been shown with this zeroOption or if any description has changed. Enum options are
+	 * cached by their enum class, since {@code values()} returns a new array every call; any other
+	 * options are cached by the array itself, so callers that show the same menu repeatedly should
+	 * pass the same array.
+	 * 
+	 * @param options - the menu options
+	 * @param zeroOption - A string representing what the number 0 should say
+	 * @param describer - produces the description printed for an option
+	 * @return the up to date menu text
+	 */
+	<T> MenuText cachedMenuText(T[] options, String zeroOption,
+			Function<? super T, String> describer) {
+		Class<?> element = options.getClass().getComponentType();
+		Object key = element.isEnum() ? element : options;
+		MenuText text = my_menus.get(key);
+
+		if (text == null || !text.zeroOption().equals(zeroOption)) {
+			text = new MenuText(zeroOption);
+			my_menus.put(key, text);
+		}
+
+		text.update(options, describer);
+		return text;
+	}
+
+	/**
+	 * Shows the menu text and prompts for a selection.
+	 * 
+	 * @param text - the rendered menu
+	 * @param optionCount - the number of options in the menu
+	 * @return the int of the selection made by the user
+	 */
+	private int promptForMenuChoice(MenuText text, int optionCount) {
+		text.render(output());
+		return promptForRenderedMenuChoice(text.hasZeroOption() ? 0 : 1, optionCount);
+	}
+
+	/**
+	 * Prompts for a selection from a menu that has already been printed.
+	 * 
+	 * @param min - the lowest valid choice
+	 * @param max - the highest valid choice
+	 * @return the int of the selection made by the user
+	 */
+	private int promptForRenderedMenuChoice(int min, int max) {
+		int result = promptForInt("Select a menu option", min, max);
+
+		output().println();
+		output().flush();
+		return result;
+	}
+
+	/**
+	 * Displays the prompt and reads the next line from the shared input source, leaving the
+	 * trimmed line as the source's current line. This method loops until valid input is given.
+	 * 
+	 * @param prompt - the prompt to be displayed to the user.
+	 * @param allowEmpty - when true, makes empty responses valid
+	 * @param appendColon - when true, adds ": " to the end of the prompt
+	 * @throws NoSuchElementException if the input has been exhausted
+	 */
+	private void awaitLine(String prompt, boolean allowEmpty, boolean appendColon) {
+		final LineSource source = input();
+
+		if (prompt == null) {
+			throw new IllegalArgumentException("Prompt must not be null!");
+		}
+		
+		if (prompt.length() < 1) {
+			throw new IllegalArgumentException("Prompt must not be blank!");
+		}
+
+		do {
+			output().print(prompt);
+			if (appendColon) {
+				output().print(": ");
+			}
+			output().flush();
+			if (my_measuredType != null) {
+				long start = System.nanoTime();
+				source.requireLine();
+				my_waitNanos += System.nanoTime() - start;
+				my_linesRead++;
+			} else {
+				source.requireLine();
+			}
+			source.trimLine();
+			if (!allowEmpty && source.lineLength() == 0) {
+				output().println("Input must not be empty!");
+				continue;
+			} else {
+				break;
+			}
+		} while (true);
+	}
+
+	/**
+	 * Marks the start of a prompt of the given type. Prompts made from inside another prompt, such
+	 * as the line read by {@code promptForBool} or an entry re-entered in an array, are counted as
+	 * part of the outermost one. When {@link PromptMetrics} is enabled, the outermost prompt is
+	 * timed from here to {@link #endPrompt()}.
+	 * 
+	 * @param type - the type of prompt
+	 */
+	private void beginPrompt(PromptType type) {
+		if (my_promptDepth++ == 0 && PromptMetrics.isEnabled()) {
+			my_measuredType = type;
+			my_promptFailed = false;
+			my_waitNanos = 0;
+			my_linesRead = 0;
+			my_promptEvent = PromptMetrics.beginPromptEvent();
+			my_promptStart = System.nanoTime();
+		}
+	}
+
+	/**
+	 * Marks the prompt being measured as having failed instead of being answered, for example
+	 * because the input ran out
+	 */
+	private void failPrompt() {
+		// Only the outermost prompt's failure counts; a nested one may have been recovered from
+		if (my_promptDepth == 1) {
+			my_promptFailed = true;
+		}
+	}
+
+	/**
+	 * Marks the end of a prompt, recording it if it was the outermost one and was measured. Every
+	 * line read after the first was read because an answer was rejected. A prompt that failed is
+	 * only counted as a failure, so its time and retries don't skew those of answered prompts.
+	 */
+	private void endPrompt() {
+		if (--my_promptDepth == 0 && my_measuredType != null) {
+			if (my_promptFailed) {
+				PromptMetrics.recordFailure(my_measuredType);
+			} else {
+				PromptMetrics.recordPrompt(my_measuredType, System.nanoTime() - my_promptStart,
+						my_waitNanos, Math.max(0, my_linesRead - 1), my_promptEvent);
+			}
+			my_measuredType = null;
+			my_promptEvent = null;
+		}
+	}
+
+	/**
+	 * Stops the threads behind {@link #promptAsync(Supplier) promptAsync()}, if they were started,
+	 * cancelling any asynchronous prompts still outstanding. Later prompts, synchronous or not,
+	 * read the session's input directly again. The session's input and output belong to whoever
+	 * created it, so they are left open.
+	 */
+	@Override
+	public void close() {
+		stopPrompter();
+	}
+
+	/**
+	 * @return the background prompter, starting its reader thread on first use
+	 */
+	private synchronized AsyncPrompter prompter() {
+		if (my_prompter == null) {
+			my_prompter = new AsyncPrompter("ConsoleSession-prompts", my_in);
+			// The reader thread owns the original source now, so every prompt reads its queue
+			my_in = my_prompter.input();
+		}
+		return my_prompter;
+	}
+
+	/**
+	 * Shuts down the background prompter, if it was started, and takes back the input it was
+	 * reading, so later prompts read the session's own source again
+	 */
+	private synchronized void stopPrompter() {
+		if (my_prompter != null) {
+			my_in = my_prompter.shutdown();
+			my_prompter = null;
+		}
+	}
+
+	/**
+	 * @return the output buffer that this session's prompts print to
+	 */
+	public ConsoleOutput output() {
+		return my_out;
+	}
+
+	/**
+	 * @return the source that this session's prompts read from
+	 */
+	public LineSource input() {
+		return my_in;
+	}
+}
@@ -0,0 +1,240 @@
+package console;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.util.NoSuchElementException;
+
+/**
+ * A long-lived, line-oriented source of input. Characters are read into a single reusable buffer
+ * and each line is exposed as a window into that buffer, so reading a line does not allocate.
+ * Because nothing is read ahead into a throwaway reader, any number of prompts can share one
+ * {@code LineSource} without losing lines that were piped in.
+ * <p>
+ * The current line is only valid until the next call to {@link #nextLine()}.
+ *
+ * @author Ryder James
+ */
+public final class LineSource {
+	private static final int DEFAULT_CAPACITY = 8192;
+
+	private final Reader my_reader;
+	private final CharSequence my_lineView = new LineView();
+	private char[] my_buffer;
+	private int my_position;
+	private int my_limit;
+	private int my_lineStart;
+	private int my_lineEnd;
+	private boolean my_skipLineFeed;
+	private boolean my_endOfInput;
+
+	/**
+	 * Creates a {@code LineSource} that reads characters from the given {@code Reader}
+	 *
+	 * @param reader - the {@code Reader} to read from
+	 */
+	public LineSource(Reader reader) {
+		if (reader == null) {
+			throw new IllegalArgumentException("Reader must not be null!");
+		}
+		my_reader = reader;
+		my_buffer = new char[DEFAULT_CAPACITY];
+	}
+
+	/**
+	 * Creates a {@code LineSource} that decodes the given stream using the default charset
+	 *
+	 * @param stream - the {@code InputStream} to read from
+	 */
+	public LineSource(InputStream stream) {
+		this(new InputStreamReader(stream, Charset.defaultCharset()));
+	}
+
+	/**
+	 * Creates a {@code LineSource} that decodes the given channel using the default charset
+	 *
+	 * @param channel - the {@code ReadableByteChannel} to read from
+	 */
+	public LineSource(ReadableByteChannel channel) {
+		this(Channels.newReader(channel, Charset.defaultCharset().newDecoder(), -1));
+	}
+
+	/**
+	 * Advances to the next line of input. Lines may be terminated by "\n", "\r" or "\r\n". The
+	 * final line of the input does not need a terminator.
+	 *
+	 * @return false if there is no more input, otherwise true
+	 */
+	public boolean nextLine() {
+		int scan = my_position;
+
+		do {
+			if (my_skipLineFeed && scan < my_limit) {
+				my_skipLineFeed = false;
+				if (my_buffer[scan] == '\n') {
+					my_position = ++scan;
+				}
+			}
+
+			for (; scan < my_limit; scan++) {
+				char c = my_buffer[scan];
+				if (c == '\n' || c == '\r') {
+					my_lineStart = my_position;
+					my_lineEnd = scan;
+					my_position = scan + 1;
+					my_skipLineFeed = c == '\r';
+					return true;
+				}
+			}
+
+			if (my_endOfInput) {
+				break;
+			}
+			scan = fill();
+		} while (true);
+
+		if (my_position < my_limit) {
+			my_lineStart = my_position;
+			my_lineEnd = my_limit;
+			my_position = my_limit;
+			return true;
+		}
+
+		my_lineStart = my_lineEnd = my_position;
+		return false;
+	}
+
+	/**
+	 * Advances to the next line of input, failing if there is none
+	 *
+	 * @throws NoSuchElementException if the input has been exhausted
+	 */
+	public void requireLine() {
+		if (!nextLine()) {
+			throw new NoSuchElementException("No more input!");
+		}
+	}
+
+	/**
+	 * Removes leading and trailing whitespace from the current line, as {@link String#trim()}
+	 * would
+	 */
+	public void trimLine() {
+		while (my_lineStart < my_lineEnd && my_buffer[my_lineStart] <= ' ') {
+			my_lineStart++;
+		}
+		while (my_lineEnd > my_lineStart && my_buffer[my_lineEnd - 1] <= ' ') {
+			my_lineEnd--;
+		}
+	}
+
+	/**
+	 * @return the buffer holding the current line. Must not be modified.
+	 */
+	public char[] buffer() {
+		return my_buffer;
+	}
+
+	/**
+	 * @return the inclusive index of the first character of the current line in {@link #buffer()}
+	 */
+	public int lineStart() {
+		return my_lineStart;
+	}
+
+	/**
+	 * @return the exclusive index of the last character of the current line in {@link #buffer()}
+	 */
+	public int lineEnd() {
+		return my_lineEnd;
+	}
+
+	/**
+	 * @return the number of characters in the current line
+	 */
+	public int lineLength() {
+		return my_lineEnd - my_lineStart;
+	}
+
+	/**
+	 * @return a {@code CharSequence} that always reflects the current line. The same view is
+	 *         returned every time, so reading a line through it does not allocate.
+	 */
+	public CharSequence lineView() {
+		return my_lineView;
+	}
+
+	/**
+	 * @return a copy of the current line as a {@code String}
+	 */
+	public String line() {
+		return new String(my_buffer, my_lineStart, my_lineEnd - my_lineStart);
+	}
+
+	/**
+	 * Compacts the unread characters to the front of the buffer, growing it if it is full, and
+	 * reads as many characters as are available.
+	 *
+	 * @return the index at which scanning for a line terminator should resume
+	 */
+	private int fill() {
+		int unread = my_limit - my_position;
+
+		if (my_position > 0) {
+			System.arraycopy(my_buffer, my_position, my_buffer, 0, unread);
+			my_position = 0;
+			my_limit = unread;
+		} else if (my_limit == my_buffer.length) {
+			char[] grown = new char[my_buffer.length * 2];
+			System.arraycopy(my_buffer, 0, grown, 0, my_limit);
+			my_buffer = grown;
+		}
+
+		try {
+			int read = my_reader.read(my_buffer, my_limit, my_buffer.length - my_limit);
+			if (read < 0) {
+				my_endOfInput = true;
+			} else {
+				my_limit += read;
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		return unread;
+	}
+
+	/**
+	 * A live view of the current line
+	 */
+	private final class LineView implements CharSequence {
+		@Override
+		public int length() {
+			return my_lineEnd - my_lineStart;
+		}
+
+		@Override
+		public char charAt(int index) {
+			if (index < 0 || index >= length()) {
+				throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length "
+						+ length());
+			}
+			return my_buffer[my_lineStart + index];
+		}
+
+		@Override
+		public CharSequence subSequence(int start, int end) {
+			return toString().substring(start, end);
+		}
+
+		@Override
+		public String toString() {
+			return line();
+		}
+	}
+}
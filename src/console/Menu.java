@@ -0,0 +1,104 @@
+package console;
+
+import java.io.Writer;
+import java.util.function.Function;
+
+import interfaces.MenuOption;
+import static_classes.ConsoleUI;
+
+/**
+ * A handle to a menu that has been registered once and can be shown any number of times. The
+ * menu text is rendered up front and only rebuilt when an option's description changes, so
+ * showing the menu does not allocate.
+ *
+ * @param <T> - the type of the menu options
+ * @author Ryder James
+ * @see ConsoleUI#registerMenu(MenuOption[], String)
+ * @see ConsoleUI#promptForMenuSelection(Menu)
+ */
+public final class Menu<T> {
+	static final Function<MenuOption, String> DESCRIBE_OPTION = MenuOption::getDesc;
+	static final Function<String, String> DESCRIBE_STRING = Function.identity();
+
+	private final T[] my_options;
+	private final Function<? super T, String> my_describer;
+	private final MenuText my_text;
+
+	/**
+	 * Creates a menu of the given options.
+	 *
+	 * @param options - the menu options. The array is not copied.
+	 * @param describer - produces the description printed for an option
+	 * @param zeroOption - what the number 0 should say, or an empty string for no 0 option
+	 */
+	public Menu(T[] options, Function<? super T, String> describer, String zeroOption) {
+		if (options == null || describer == null) {
+			throw new IllegalArgumentException("Options and describer must not be null!");
+		}
+		my_options = options;
+		my_describer = describer;
+		my_text = new MenuText(zeroOption);
+		my_text.update(options, describer);
+	}
+
+	/**
+	 * Creates a menu of options described by their {@link MenuOption#getDesc() getDesc()}.
+	 *
+	 * @param options - the menu options. The array is not copied.
+	 * @param zeroOption - what the number 0 should say, or an empty string for no 0 option
+	 * @return the menu
+	 */
+	public static <T extends MenuOption> Menu<T> of(T[] options, String zeroOption) {
+		return new Menu<>(options, DESCRIBE_OPTION, zeroOption);
+	}
+
+	/**
+	 * Creates a menu of Strings.
+	 *
+	 * @param options - Strings representing the menu options. The array is not copied.
+	 * @param zeroOption - what the number 0 should say, or an empty string for no 0 option
+	 * @return the menu
+	 */
+	public static Menu<String> of(String[] options, String zeroOption) {
+		return new Menu<>(options, DESCRIBE_STRING, zeroOption);
+	}
+
+	/**
+	 * Writes the menu text, re-rendering it first if any description has changed
+	 *
+	 * @param out - the {@code Writer} to write the menu to
+	 */
+	public void render(Writer out) {
+		my_text.update(my_options, my_describer);
+		my_text.render(out);
+	}
+
+	/**
+	 * Forces the menu text to be re-rendered the next time it is shown
+	 */
+	public void invalidate() {
+		my_text.invalidate();
+	}
+
+	/**
+	 * @return the lowest number the user may choose
+	 */
+	public int minChoice() {
+		return my_text.hasZeroOption() ? 0 : 1;
+	}
+
+	/**
+	 * @return the highest number the user may choose
+	 */
+	public int maxChoice() {
+		return my_options.length;
+	}
+
+	/**
+	 * @param choice - the number chosen by the user
+	 * @return null if 0, or the option that the number represents
+	 */
+	public T option(int choice) {
+		return choice == 0 ? null : my_options[choice - 1];
+	}
+}
@@ -0,0 +1,116 @@
+package console;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.function.Function;
+
+/**
+ * The pre-rendered text of a numbered console menu. The text is only rebuilt when one of the
+ * option descriptions changes, so showing the same menu again costs a single copy of its
+ * characters.
+ * <p>
+ * A {@code MenuText} deliberately holds no reference to the options it was rendered from, so it
+ * can be cached against the options array, or the enum class of the options, without keeping
+ * either alive.
+ *
+ * @author Ryder James
+ */
+public final class MenuText {
+	private static final String LINE_SEPARATOR = System.lineSeparator();
+	private static final String[] NO_DESCRIPTIONS = new String[0];
+
+	private final String my_zeroOption;
+	private String[] my_descriptions;
+	private char[] my_text;
+
+	/**
+	 * Creates an empty {@code MenuText}. It will be rendered on the first call to
+	 * {@link #update(Object[], Function) update()}.
+	 *
+	 * @param zeroOption - what the number 0 should say, or an empty string for no 0 option
+	 */
+	public MenuText(String zeroOption) {
+		if (zeroOption == null) {
+			throw new IllegalArgumentException("Zero option must not be null!");
+		}
+		my_zeroOption = zeroOption;
+		my_descriptions = NO_DESCRIPTIONS;
+	}
+
+	/**
+	 * Re-renders the text if the number of options or any of their descriptions differ from the
+	 * last render. Descriptions are compared by identity first, so options that return the same
+	 * {@code String} every time are checked without allocating.
+	 *
+	 * @param options - the menu options
+	 * @param describer - produces the description printed for an option
+	 * @return true if the text was re-rendered
+	 */
+	public <T> boolean update(T[] options, Function<? super T, String> describer) {
+		boolean stale = my_text == null || options.length != my_descriptions.length;
+
+		for (int i = 0; !stale && i < options.length; i++) {
+			String description = describer.apply(options[i]);
+			String cached = my_descriptions[i];
+			stale = description != cached && (description == null || !description.equals(cached));
+		}
+
+		if (!stale) {
+			return false;
+		}
+
+		String[] descriptions = new String[options.length];
+		StringBuilder text = new StringBuilder();
+
+		for (int i = 1; i <= options.length; i++) {
+			descriptions[i - 1] = describer.apply(options[i - 1]);
+			text.append(i).append(")\t").append(descriptions[i - 1]).append(LINE_SEPARATOR);
+		}
+		if (hasZeroOption()) {
+			text.append("0)\t").append(my_zeroOption).append(LINE_SEPARATOR);
+		}
+
+		my_descriptions = descriptions;
+		my_text = text.toString().toCharArray();
+		return true;
+	}
+
+	/**
+	 * Forces the text to be re-rendered on the next {@link #update(Object[], Function) update()}
+	 */
+	public void invalidate() {
+		my_text = null;
+	}
+
+	/**
+	 * Writes the text as of the last {@link #update(Object[], Function) update()}
+	 *
+	 * @param out - the {@code Writer} to write the menu to
+	 */
+	public void render(Writer out) {
+		if (my_text == null) {
+			throw new IllegalStateException("Menu has not been rendered yet!");
+		}
+
+		try {
+			out.write(my_text, 0, my_text.length);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * @return what the number 0 says, or an empty string if there is no 0 option
+	 */
+	public String zeroOption() {
+		return my_zeroOption;
+	}
+
+	/**
+	 * @return true if the number 0 is a valid choice
+	 */
+	public boolean hasZeroOption() {
+		return !my_zeroOption.isEmpty();
+	}
+}
@@ -0,0 +1,169 @@
+package console;
+
+import java.math.BigDecimal;
+
+/**
+ * Parses numbers directly out of a character buffer, such as the current line of a
+ * {@link LineSource}. Whole numbers are parsed exactly and range checked against {@code long}
+ * boundaries, so values beyond 2^53 keep their precision. Plain integers (an optional sign
+ * followed by digits, optionally followed by a decimal point and zeros) are parsed without
+ * allocating; anything else falls back to {@link BigDecimal}.
+ * <p>
+ * Each parse returns a status code and leaves the parsed value in this parser, so an instance
+ * should not be shared between threads.
+ *
+ * @author Ryder James
+ */
+public final class NumberParser {
+	/**
+	 * The input was parsed and lies within the requested range
+	 */
+	public static final int VALID = 0;
+
+	/**
+	 * The input is not a number
+	 */
+	public static final int NOT_A_NUMBER = 1;
+
+	/**
+	 * The input is a number, but has a fractional part
+	 */
+	public static final int NOT_AN_INTEGER = 2;
+
+	/**
+	 * The input is a number, but lies outside the requested range
+	 */
+	public static final int OUT_OF_RANGE = 3;
+
+	private long my_longValue;
+	private double my_doubleValue;
+
+	/**
+	 * Parses a whole number from the given range of characters.
+	 *
+	 * @param chars - the characters to parse
+	 * @param from - the inclusive index of the first character
+	 * @param to - the exclusive index of the last character
+	 * @param min - the inclusive minimum boundary
+	 * @param max - the inclusive maximum boundary
+	 * @return {@link #VALID}, {@link #NOT_A_NUMBER}, {@link #NOT_AN_INTEGER} or
+	 *         {@link #OUT_OF_RANGE}. When {@code VALID}, the value is available from
+	 *         {@link #longValue()}.
+	 */
+	public int parseLong(char[] chars, int from, int to, long min, long max) {
+		int i = from;
+		boolean negative = false;
+		long result = 0;
+
+		if (i < to && (chars[i] == '-' || chars[i] == '+')) {
+			negative = chars[i] == '-';
+			i++;
+		}
+
+		int firstDigit = i;
+
+		// Accumulate negatively, as Long.parseLong does, so Long.MIN_VALUE fits
+		for (; i < to; i++) {
+			int digit = chars[i] - '0';
+			if (digit < 0 || digit > 9) {
+				break;
+			}
+			if (result < (Long.MIN_VALUE + digit) / 10) {
+				return parseLongSlowly(chars, from, to, min, max);
+			}
+			result = result * 10 - digit;
+		}
+
+		if (i == firstDigit) {
+			return parseLongSlowly(chars, from, to, min, max);
+		}
+
+		if (i < to && chars[i] == '.') {
+			for (i++; i < to && chars[i] == '0'; i++) {
+			}
+		}
+
+		if (i < to || (!negative && result == Long.MIN_VALUE)) {
+			return parseLongSlowly(chars, from, to, min, max);
+		}
+
+		result = negative ? result : -result;
+
+		if (result < min || result > max) {
+			return OUT_OF_RANGE;
+		}
+
+		my_longValue = result;
+		return VALID;
+	}
+
+	/**
+	 * Parses a floating point number from the given range of characters.
+	 *
+	 * @param chars - the characters to parse
+	 * @param from - the inclusive index of the first character
+	 * @param to - the exclusive index of the last character
+	 * @param min - the inclusive minimum boundary
+	 * @param max - the inclusive maximum boundary
+	 * @return {@link #VALID}, {@link #NOT_A_NUMBER} or {@link #OUT_OF_RANGE}. When
+	 *         {@code VALID}, the value is available from {@link #doubleValue()}.
+	 */
+	public int parseDouble(char[] chars, int from, int to, double min, double max) {
+		double result;
+
+		try {
+			result = Double.parseDouble(new String(chars, from, to - from));
+		} catch (NumberFormatException nfe) {
+			return NOT_A_NUMBER;
+		}
+
+		if (result < min || result > max) {
+			return OUT_OF_RANGE;
+		}
+
+		my_doubleValue = result;
+		return VALID;
+	}
+
+	/**
+	 * @return the value of the last successful {@link #parseLong(char[], int, int, long, long)
+	 *         parseLong()}
+	 */
+	public long longValue() {
+		return my_longValue;
+	}
+
+	/**
+	 * @return the value of the last successful
+	 *         {@link #parseDouble(char[], int, int, double, double) parseDouble()}
+	 */
+	public double doubleValue() {
+		return my_doubleValue;
+	}
+
+	/**
+	 * Handles everything the fast path does not: exponents, fractions, and values too large for a
+	 * {@code long}.
+	 */
+	private int parseLongSlowly(char[] chars, int from, int to, long min, long max) {
+		BigDecimal result;
+
+		try {
+			result = new BigDecimal(chars, from, to - from);
+		} catch (NumberFormatException nfe) {
+			return NOT_A_NUMBER;
+		}
+
+		if (result.signum() != 0 && result.stripTrailingZeros().scale() > 0) {
+			return NOT_AN_INTEGER;
+		}
+
+		if (result.compareTo(BigDecimal.valueOf(min)) < 0
+				|| result.compareTo(BigDecimal.valueOf(max)) > 0) {
+			return OUT_OF_RANGE;
+		}
+
+		my_longValue = result.longValue();
+		return VALID;
+	}
+}
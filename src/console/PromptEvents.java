@@ -0,0 +1,228 @@
+package console;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import enums.PromptType;
+
+/**
+ * Records {@link PromptMetrics} as Java Flight Recorder events. The events are defined at run time
+ * through {@code jdk.jfr.EventFactory}, found reflectively, so this project still builds and runs
+ * on Java 8 JVMs that don't include the flight recorder; on those {@link #create()} returns null.
+ * Each event is begun when the prompt or write starts and ended when it finishes, so its start
+ * time and duration in a recording match it.
+ *
+ * @author Ryder James
+ */
+final class PromptEvents {
+	private static final String TIMESPAN_NANOSECONDS = "NANOSECONDS";
+
+	private final MethodHandle my_newPrompt;
+	private final MethodHandle my_newOutput;
+	private final MethodHandle my_begin;
+	private final MethodHandle my_end;
+	private final MethodHandle my_shouldCommit;
+	private final MethodHandle my_set;
+	private final MethodHandle my_commit;
+	private volatile boolean my_failed;
+
+	private PromptEvents(MethodHandle newPrompt, MethodHandle newOutput, MethodHandle begin,
+			MethodHandle end, MethodHandle shouldCommit, MethodHandle set, MethodHandle commit) {
+		my_newPrompt = newPrompt;
+		my_newOutput = newOutput;
+		my_begin = begin;
+		my_end = end;
+		my_shouldCommit = shouldCommit;
+		my_set = set;
+		my_commit = commit;
+	}
+
+	/**
+	 * Defines the {@code console.Prompt} and {@code console.Output} events
+	 *
+	 * @return the recorder, or null if this JVM has no flight recorder
+	 */
+	static PromptEvents create() {
+		try {
+			Class<?> factory = Class.forName("jdk.jfr.EventFactory");
+			Class<?> event = Class.forName("jdk.jfr.Event");
+			Jfr jfr = new Jfr();
+			Method create = factory.getMethod("create", List.class, List.class);
+
+			Object prompt = create.invoke(null,
+					jfr.describe("console.Prompt", "Console Prompt",
+							"A prompt answered by the user"),
+					Arrays.asList(jfr.field(String.class, "promptType", "Prompt Type", null),
+							jfr.field(long.class, "waitTime", "Wait Time",
+									TIMESPAN_NANOSECONDS),
+							jfr.field(long.class, "processingTime", "Processing Time",
+									TIMESPAN_NANOSECONDS),
+							jfr.field(int.class, "retries", "Retries", null)));
+			Object output = create.invoke(null,
+					jfr.describe("console.Output", "Console Output",
+							"A buffered write to the console"),
+					Arrays.asList(jfr.field(int.class, "characters", "Characters", null),
+							jfr.field(long.class, "writeTime", "Write Time",
+									TIMESPAN_NANOSECONDS)));
+
+			// Looked up once here, so recording an event costs no reflection
+			MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+			MethodHandle newEvent = lookup.unreflect(factory.getMethod("newEvent"));
+			return new PromptEvents(newEvent.bindTo(prompt), newEvent.bindTo(output),
+					lookup.unreflect(event.getMethod("begin")),
+					lookup.unreflect(event.getMethod("end")),
+					lookup.unreflect(event.getMethod("shouldCommit")),
+					lookup.unreflect(event.getMethod("set", int.class, Object.class)),
+					lookup.unreflect(event.getMethod("commit")));
+		} catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Starts a {@code console.Prompt} event, to be finished by
+	 * {@link #prompt(Object, PromptType, long, long, int) prompt()}
+	 *
+	 * @return the event, or null if the flight recorder has failed
+	 */
+	Object beginPrompt() {
+		return begin(my_newPrompt);
+	}
+
+	/**
+	 * Starts a {@code console.Output} event, to be finished by {@link #output(Object, int, long)
+	 * output()}
+	 *
+	 * @return the event, or null if the flight recorder has failed
+	 */
+	Object beginOutput() {
+		return begin(my_newOutput);
+	}
+
+	/**
+	 * Ends and records a {@code console.Prompt} event
+	 *
+	 * @param event - the event returned by {@link #beginPrompt()}
+	 */
+	void prompt(Object event, PromptType type, long waitNanos, long processingNanos,
+			int retries) {
+		commit(event, type.name(), waitNanos, processingNanos, retries);
+	}
+
+	/**
+	 * Ends and records a {@code console.Output} event
+	 *
+	 * @param event - the event returned by {@link #beginOutput()}
+	 */
+	void output(Object event, int characters, long nanos) {
+		commit(event, characters, nanos);
+	}
+
+	/**
+	 * Creates an event and starts its clock. If the flight recorder ever fails, events stop being
+	 * recorded rather than breaking the prompt.
+	 */
+	private Object begin(MethodHandle newEvent) {
+		if (my_failed) {
+			return null;
+		}
+
+		try {
+			Object event = newEvent.invoke();
+			my_begin.invoke(event);
+			return event;
+		} catch (Throwable t) {
+			my_failed = true;
+			return null;
+		}
+	}
+
+	/**
+	 * Stops an event's clock, then sets its fields in order and commits it, if a recording wants
+	 * it
+	 */
+	private void commit(Object event, Object... values) {
+		if (event == null || my_failed) {
+			return;
+		}
+
+		try {
+			my_end.invoke(event);
+			if (!(boolean) my_shouldCommit.invoke(event)) {
+				return;
+			}
+			for (int i = 0; i < values.length; i++) {
+				my_set.invoke(event, i, values[i]);
+			}
+			my_commit.invoke(event);
+		} catch (Throwable t) {
+			my_failed = true;
+		}
+	}
+
+	/**
+	 * Builds the annotations and fields that describe an event
+	 */
+	private static final class Jfr {
+		private final Constructor<?> my_annotation;
+		private final Constructor<?> my_value;
+		private final Class<? extends Annotation> my_name;
+		private final Class<? extends Annotation> my_label;
+		private final Class<? extends Annotation> my_description;
+		private final Class<? extends Annotation> my_category;
+		private final Class<? extends Annotation> my_timespan;
+		private final Class<? extends Annotation> my_stackTrace;
+
+		private Jfr() throws ReflectiveOperationException {
+			my_annotation = Class.forName("jdk.jfr.AnnotationElement").getConstructor(Class.class,
+					Object.class);
+			my_value = Class.forName("jdk.jfr.ValueDescriptor").getConstructor(Class.class,
+					String.class, List.class);
+			my_name = annotation("jdk.jfr.Name");
+			my_label = annotation("jdk.jfr.Label");
+			my_description = annotation("jdk.jfr.Description");
+			my_category = annotation("jdk.jfr.Category");
+			my_timespan = annotation("jdk.jfr.Timespan");
+			my_stackTrace = annotation("jdk.jfr.StackTrace");
+		}
+
+		/**
+		 * @return the annotations of an event in the "Console" category. Stack traces are left out,
+		 *         as they would only show this class.
+		 */
+		private List<Object> describe(String name, String label, String description)
+				throws ReflectiveOperationException {
+			return Arrays.asList(my_annotation.newInstance(my_name, name),
+					my_annotation.newInstance(my_label, label),
+					my_annotation.newInstance(my_description, description),
+					my_annotation.newInstance(my_category, new String[] { "Console" }),
+					my_annotation.newInstance(my_stackTrace, false));
+		}
+
+		/**
+		 * @param timespan - the unit of a duration field, or null if it isn't one
+		 * @return the descriptor of an event field
+		 */
+		private Object field(Class<?> type, String name, String label, String timespan)
+				throws ReflectiveOperationException {
+			List<Object> annotations = new ArrayList<>();
+			annotations.add(my_annotation.newInstance(my_label, label));
+			if (timespan != null) {
+				annotations.add(my_annotation.newInstance(my_timespan, timespan));
+			}
+			return my_value.newInstance(type, name, Collections.unmodifiableList(annotations));
+		}
+
+		private static Class<? extends Annotation> annotation(String name)
+				throws ClassNotFoundException {
+			return Class.forName(name).asSubclass(Annotation.class);
+		}
+	}
+}
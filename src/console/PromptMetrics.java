@@ -0,0 +1,261 @@
+package console;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import enums.PromptType;
+
+/**
+ * Measures how console tools behave in use: for each type of prompt, how many were answered, how
+ * long users took to answer, how long was spent printing, parsing and validating, and how many
+ * answers were rejected; and how much was written to the console and how long that took. Prompts
+ * that fail instead of being answered, such as when the input runs out, are only counted as
+ * failures.
+ * <p>
+ * Measuring is off until {@link #enable()} is called, or the JVM is started with
+ * {@code -Dconsole.metrics=true}. While it is off, each prompt and each write to the console
+ * costs a single flag check. Once enabled, the counts are published as the
+ * {@link PromptMetricsMXBean} {@value #OBJECT_NAME}, and if the JVM supports Java Flight Recorder
+ * every prompt and write is also recorded as a {@code console.Prompt} or {@code console.Output}
+ * event.
+ *
+ * @author Ryder James
+ */
+public final class PromptMetrics {
+	/**
+	 * The name the metrics are registered under with the platform MBean server
+	 */
+	public static final String OBJECT_NAME = "console:type=PromptMetrics";
+
+	private static final PromptType[] TYPES = PromptType.values();
+	private static final LongAdder[] PROMPTS = adders(TYPES.length);
+	private static final LongAdder[] WAIT_NANOS = adders(TYPES.length);
+	private static final LongAdder[] PROCESSING_NANOS = adders(TYPES.length);
+	private static final LongAdder[] RETRIES = adders(TYPES.length);
+	private static final LongAdder[] FAILURES = adders(TYPES.length);
+	private static final LongAdder OUTPUT_CHARACTERS = new LongAdder();
+	private static final LongAdder OUTPUT_WRITES = new LongAdder();
+	private static final LongAdder OUTPUT_NANOS = new LongAdder();
+	private static final Bean BEAN = new Bean();
+
+	private static volatile boolean enabled;
+	private static volatile PromptEvents events;
+	private static boolean registered;
+
+	static {
+		if (Boolean.getBoolean("console.metrics")) {
+			enable();
+		}
+	}
+
+	/**
+	 * Don't let anyone else instantiate this class
+	 */
+	private PromptMetrics() {}
+
+	/**
+	 * Starts measuring, registering the MBean and flight recorder events the first time
+	 */
+	public static synchronized void enable() {
+		if (!registered) {
+			registered = true;
+			events = PromptEvents.create();
+			try {
+				ManagementFactory.getPlatformMBeanServer().registerMBean(BEAN,
+						new ObjectName(OBJECT_NAME));
+			} catch (JMException e) {
+				throw new IllegalStateException("Could not register " + OBJECT_NAME + "!", e);
+			}
+		}
+		enabled = true;
+	}
+
+	/**
+	 * Stops measuring. The counts so far are kept.
+	 */
+	public static void disable() {
+		enabled = false;
+	}
+
+	/**
+	 * @return true if prompts and output are being measured
+	 */
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * @return the counts, in the same form as they are published over JMX
+	 */
+	public static PromptMetricsMXBean mxBean() {
+		return BEAN;
+	}
+
+	/**
+	 * Starts the flight recorder event for a prompt, before anything is printed
+	 *
+	 * @return the event to pass to {@link #recordPrompt(PromptType, long, long, int, Object)
+	 *         recordPrompt()}, or null if events aren't being recorded
+	 */
+	static Object beginPromptEvent() {
+		PromptEvents recorder = events;
+		return recorder == null ? null : recorder.beginPrompt();
+	}
+
+	/**
+	 * Starts the flight recorder event for a write to the console
+	 *
+	 * @return the event to pass to {@link #recordOutput(int, long, Object) recordOutput()}, or
+	 *         null if events aren't being recorded
+	 */
+	static Object beginOutputEvent() {
+		PromptEvents recorder = events;
+		return recorder == null ? null : recorder.beginOutput();
+	}
+
+	/**
+	 * Records an answered prompt
+	 *
+	 * @param type - the type of prompt
+	 * @param nanos - how long the whole prompt took
+	 * @param waitNanos - how much of that was spent waiting for the user
+	 * @param retries - how many answers were rejected before one was accepted
+	 * @param event - the event from {@link #beginPromptEvent()}, or null
+	 */
+	static void recordPrompt(PromptType type, long nanos, long waitNanos, int retries,
+			Object event) {
+		int i = type.ordinal();
+		PROMPTS[i].increment();
+		WAIT_NANOS[i].add(waitNanos);
+		PROCESSING_NANOS[i].add(nanos - waitNanos);
+		RETRIES[i].add(retries);
+
+		PromptEvents recorder = events;
+		if (recorder != null) {
+			recorder.prompt(event, type, waitNanos, nanos - waitNanos, retries);
+		}
+	}
+
+	/**
+	 * Records a prompt that failed instead of being answered. Its event, if any, is not committed.
+	 *
+	 * @param type - the type of prompt
+	 */
+	static void recordFailure(PromptType type) {
+		FAILURES[type.ordinal()].increment();
+	}
+
+	/**
+	 * Records a write to the console
+	 *
+	 * @param characters - the number of characters written
+	 * @param nanos - how long the write took
+	 * @param event - the event from {@link #beginOutputEvent()}, or null
+	 */
+	static void recordOutput(int characters, long nanos, Object event) {
+		OUTPUT_CHARACTERS.add(characters);
+		OUTPUT_WRITES.increment();
+		OUTPUT_NANOS.add(nanos);
+
+		PromptEvents recorder = events;
+		if (recorder != null) {
+			recorder.output(event, characters, nanos);
+		}
+	}
+
+	private static LongAdder[] adders(int count) {
+		LongAdder[] adders = new LongAdder[count];
+		for (int i = 0; i < count; i++) {
+			adders[i] = new LongAdder();
+		}
+		return adders;
+	}
+
+	private static Map<String, Long> byType(LongAdder[] adders, boolean toMillis) {
+		Map<String, Long> map = new LinkedHashMap<>();
+		for (int i = 0; i < TYPES.length; i++) {
+			long value = adders[i].sum();
+			map.put(TYPES[i].name(), toMillis ? TimeUnit.NANOSECONDS.toMillis(value) : value);
+		}
+		return map;
+	}
+
+	/**
+	 * Publishes the counts
+	 */
+	private static final class Bean implements PromptMetricsMXBean {
+		@Override
+		public boolean isEnabled() {
+			return PromptMetrics.isEnabled();
+		}
+
+		@Override
+		public void setEnabled(boolean enabled) {
+			if (enabled) {
+				enable();
+			} else {
+				disable();
+			}
+		}
+
+		@Override
+		public Map<String, Long> getPrompts() {
+			return byType(PROMPTS, false);
+		}
+
+		@Override
+		public Map<String, Long> getWaitMillis() {
+			return byType(WAIT_NANOS, true);
+		}
+
+		@Override
+		public Map<String, Long> getProcessingMillis() {
+			return byType(PROCESSING_NANOS, true);
+		}
+
+		@Override
+		public Map<String, Long> getRetries() {
+			return byType(RETRIES, false);
+		}
+
+		@Override
+		public Map<String, Long> getFailures() {
+			return byType(FAILURES, false);
+		}
+
+		@Override
+		public long getOutputCharacters() {
+			return OUTPUT_CHARACTERS.sum();
+		}
+
+		@Override
+		public long getOutputWrites() {
+			return OUTPUT_WRITES.sum();
+		}
+
+		@Override
+		public long getOutputMillis() {
+			return TimeUnit.NANOSECONDS.toMillis(OUTPUT_NANOS.sum());
+		}
+
+		@Override
+		public void reset() {
+			for (int i = 0; i < TYPES.length; i++) {
+				PROMPTS[i].reset();
+				WAIT_NANOS[i].reset();
+				PROCESSING_NANOS[i].reset();
+				RETRIES[i].reset();
+				FAILURES[i].reset();
+			}
+			OUTPUT_CHARACTERS.reset();
+			OUTPUT_WRITES.reset();
+			OUTPUT_NANOS.reset();
+		}
+	}
+}
@@ -0,0 +1,73 @@
+package console;
+
+import java.util.Map;
+
+/**
+ * The management interface of {@link PromptMetrics}, registered with the platform MBean server
+ * as {@value PromptMetrics#OBJECT_NAME}. Maps are keyed by prompt type: BOOL, NUMBER, CHAR, IP,
+ * ARRAY and TEXT.
+ * <p>
+ * Output is counted in {@code char}s, as handed to the console, not in encoded bytes; how many
+ * bytes those become depends on the console's charset.
+ *
+ * @author Ryder James
+ */
+public interface PromptMetricsMXBean {
+	/**
+	 * @return true if prompts and output are being measured
+	 */
+	boolean isEnabled();
+
+	/**
+	 * @param enabled - true to start measuring, false to stop
+	 */
+	void setEnabled(boolean enabled);
+
+	/**
+	 * @return the number of prompts answered, by type. Prompts that failed are not included.
+	 */
+	Map<String, Long> getPrompts();
+
+	/**
+	 * @return the total milliseconds spent waiting for the user to answer, by type
+	 */
+	Map<String, Long> getWaitMillis();
+
+	/**
+	 * @return the total milliseconds spent printing, parsing and validating, by type
+	 */
+	Map<String, Long> getProcessingMillis();
+
+	/**
+	 * @return the number of answers that were rejected and asked for again, by type
+	 */
+	Map<String, Long> getRetries();
+
+	/**
+	 * @return the number of prompts that failed instead of being answered, such as because the
+	 *         input ran out, by type
+	 */
+	Map<String, Long> getFailures();
+
+	/**
+	 * @return the number of {@code char}s written to the console. This is not a byte count: a
+	 *         character outside the Basic Multilingual Plane counts as two, and any character may
+	 *         encode to more than one byte.
+	 */
+	long getOutputCharacters();
+
+	/**
+	 * @return the number of writes to the console
+	 */
+	long getOutputWrites();
+
+	/**
+	 * @return the total milliseconds spent writing to the console
+	 */
+	long getOutputMillis();
+
+	/**
+	 * Sets every count back to zero
+	 */
+	void reset();
+}
@@ -0,0 +1,95 @@
+package console;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazily reads delimited records from a {@link LineSource}, one line per record. A line is only
+ * read when the next record is requested, so memory use stays flat however large the input is.
+ * <p>
+ * Each field is trimmed of surrounding whitespace. Unlike {@link String#split(String)}, trailing
+ * empty fields are kept, so every record of a well-formed input has the same number of fields.
+ * Blank lines are skipped.
+ *
+ * @author Ryder James
+ */
+public final class RecordReader implements Iterator<String[]> {
+	private static final String[] NO_FIELDS = new String[0];
+
+	private final LineSource my_source;
+	private final Tokenizer my_tokenizer;
+	private final ArrayList<String> my_fields;
+	private String[] my_next;
+	private long my_lineNumber;
+
+	/**
+	 * Creates a {@code RecordReader} over the remaining lines of a source
+	 *
+	 * @param source - the source to read lines from
+	 * @param delimiter - the delimiter separating fields
+	 */
+	public RecordReader(LineSource source, String delimiter) {
+		if (source == null) {
+			throw new IllegalArgumentException("Source must not be null!");
+		}
+		my_source = source;
+		my_tokenizer = new Tokenizer(delimiter);
+		my_fields = new ArrayList<>();
+	}
+
+	@Override
+	public boolean hasNext() {
+		while (my_next == null && my_source.nextLine()) {
+			my_lineNumber++;
+			my_source.trimLine();
+			if (my_source.lineLength() > 0) {
+				my_next = parseLine();
+			}
+		}
+
+		return my_next != null;
+	}
+
+	@Override
+	public String[] next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException("No more records!");
+		}
+
+		String[] result = my_next;
+		my_next = null;
+		return result;
+	}
+
+	/**
+	 * @return the number of lines read so far, including blank lines
+	 */
+	public long lineNumber() {
+		return my_lineNumber;
+	}
+
+	/**
+	 * @return an ordered, sequential stream of the remaining records. Records are read as the
+	 *         stream pulls them.
+	 */
+	public Stream<String[]> stream() {
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this,
+				Spliterator.ORDERED | Spliterator.NONNULL), false);
+	}
+
+	private String[] parseLine() {
+		my_fields.clear();
+		my_tokenizer.reset(my_source.buffer(), my_source.lineStart(), my_source.lineEnd());
+
+		while (my_tokenizer.next()) {
+			my_fields.add(my_tokenizer.token());
+		}
+
+		return my_fields.toArray(NO_FIELDS);
+	}
+}
@@ -0,0 +1,230 @@
+package console;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongFunction;
+
+/**
+ * Writes rows of cells as a column-aligned table, one row at a time. Column widths are measured
+ * from a bounded sample of the first rows, so only that sample is ever held in memory; every later
+ * row is written as soon as it is read. A cell wider than its sampled column is written in full
+ * and pushes the rest of its row to the right.
+ * <p>
+ * If the output is {@code Flushable}, it is flushed every {@value #FLUSH_ROWS} rows, and a
+ * {@link ConsoleOutput} also whenever {@value #FLUSH_CHARS} characters are waiting, so a table of
+ * any length is written in constant memory whether or not it is paged.
+ * <p>
+ * Tables can be split into pages. After each page the output is flushed, the header is repeated,
+ * and the caller decides whether the next page is written. Null cells are left blank.
+ *
+ * @author Ryder James
+ */
+public final class TableRenderer {
+	private static final String LINE_SEPARATOR = System.lineSeparator();
+	private static final String SPACES = "                                ";
+	private static final int FLUSH_ROWS = 1024;
+	private static final int FLUSH_CHARS = 32 * 1024;
+
+	/**
+	 * Separates columns with two spaces, samples the first 100 rows and never pages
+	 */
+	public static final TableRenderer DEFAULT = new TableRenderer("  ", 100, 0);
+
+	private final String my_columnSeparator;
+	private final int my_sampleRows;
+	private final int my_pageSize;
+
+	/**
+	 * Creates a renderer
+	 *
+	 * @param columnSeparator - printed between columns
+	 * @param sampleRows - the number of rows to measure column widths from
+	 * @param pageSize - the number of rows per page, or 0 to print every row as one page
+	 */
+	public TableRenderer(String columnSeparator, int sampleRows, int pageSize) {
+		if (columnSeparator == null) {
+			throw new IllegalArgumentException("Column separator must not be null!");
+		}
+		if (sampleRows < 1) {
+			throw new IllegalArgumentException("Must sample at least 1 row!");
+		}
+		if (pageSize < 0) {
+			throw new IllegalArgumentException("Page size must not be negative!");
+		}
+		my_columnSeparator = columnSeparator;
+		my_sampleRows = sampleRows;
+		my_pageSize = pageSize;
+	}
+
+	/**
+	 * Writes every row of a grid, without a header or paging
+	 *
+	 * @param grid - the rows to write
+	 * @param out - where to write the table
+	 */
+	public void render(Object[][] grid, Appendable out) {
+		render(null, Arrays.asList(grid).iterator(), out, () -> true);
+	}
+
+	/**
+	 * Writes every row, without paging
+	 *
+	 * @param header - the column titles, or null for no header
+	 * @param rows - the rows to write, read one at a time
+	 * @param out - where to write the table
+	 */
+	public void render(Object[] header, Iterator<? extends Object[]> rows, Appendable out) {
+		render(header, rows, out, () -> true);
+	}
+
+	/**
+	 * Writes rows a page at a time
+	 *
+	 * @param header - the column titles, or null for no header
+	 * @param rows - the rows to write, read one at a time
+	 * @param out - where to write the table
+	 * @param nextPage - asked after each full page whether to write the next one
+	 * @return true if every row was written, or false if {@code nextPage} stopped early
+	 */
+	public boolean render(Object[] header, Iterator<? extends Object[]> rows, Appendable out,
+			BooleanSupplier nextPage) {
+		Object[][] sample = new Object[my_sampleRows][];
+		int sampled = 0;
+		int[] widths = header == null ? new int[0] : measure(header, new int[header.length]);
+
+		while (sampled < my_sampleRows && rows.hasNext()) {
+			sample[sampled] = rows.next();
+			widths = measure(sample[sampled], widths);
+			sampled++;
+		}
+
+		try {
+			long written = 0;
+			int unflushed = 0;
+			if (header != null) {
+				writeRow(header, widths, out);
+			}
+
+			for (int i = 0; i < sampled || rows.hasNext(); i++) {
+				if (my_pageSize > 0 && written > 0 && written % my_pageSize == 0) {
+					flush(out);
+					unflushed = 0;
+					if (!nextPage.getAsBoolean()) {
+						return false;
+					}
+					if (header != null) {
+						writeRow(header, widths, out);
+					}
+				}
+
+				if (i < sampled) {
+					writeRow(sample[i], widths, out);
+					sample[i] = null;
+				} else {
+					writeRow(rows.next(), widths, out);
+				}
+				written++;
+
+				if (++unflushed == FLUSH_ROWS || pending(out) >= FLUSH_CHARS) {
+					flush(out);
+					unflushed = 0;
+				}
+			}
+
+			flush(out);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return true;
+	}
+
+	/**
+	 * Adapts a function that produces rows on demand into an {@code Iterator}, so rows that are
+	 * never printed are never produced
+	 *
+	 * @param count - the number of rows
+	 * @param row - produces the row at an index
+	 * @return an {@code Iterator} over the rows
+	 */
+	public static Iterator<Object[]> rows(long count, LongFunction<? extends Object[]> row) {
+		if (count < 0) {
+			throw new IllegalArgumentException("Row count must not be negative!");
+		}
+
+		return new Iterator<Object[]>() {
+			private long my_next;
+
+			@Override
+			public boolean hasNext() {
+				return my_next < count;
+			}
+
+			@Override
+			public Object[] next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException("No more rows!");
+				}
+				return row.apply(my_next++);
+			}
+		};
+	}
+
+	/**
+	 * Widens the columns to fit a row
+	 *
+	 * @return widths, or a larger copy of it if the row has more columns
+	 */
+	private static int[] measure(Object[] row, int[] widths) {
+		if (row.length > widths.length) {
+			widths = Arrays.copyOf(widths, row.length);
+		}
+		for (int i = 0; i < row.length; i++) {
+			widths[i] = Math.max(widths[i], text(row[i]).length());
+		}
+		return widths;
+	}
+
+	private void writeRow(Object[] row, int[] widths, Appendable out) throws IOException {
+		for (int i = 0; i < row.length; i++) {
+			String cell = text(row[i]);
+
+			if (i > 0) {
+				out.append(my_columnSeparator);
+			}
+			out.append(cell);
+			if (i < row.length - 1 && i < widths.length) {
+				pad(widths[i] - cell.length(), out);
+			}
+		}
+		out.append(LINE_SEPARATOR);
+	}
+
+	private static void pad(int count, Appendable out) throws IOException {
+		for (; count > 0; count -= SPACES.length()) {
+			out.append(SPACES, 0, Math.min(count, SPACES.length()));
+		}
+	}
+
+	private static String text(Object cell) {
+		return cell == null ? "" : cell.toString();
+	}
+
+	/**
+	 * @return the number of characters waiting in a {@code ConsoleOutput}, or 0 for any other
+	 *         output
+	 */
+	private static int pending(Appendable out) {
+		return out instanceof ConsoleOutput ? ((ConsoleOutput) out).pending() : 0;
+	}
+
+	private static void flush(Appendable out) throws IOException {
+		if (out instanceof Flushable) {
+			((Flushable) out).flush();
+		}
+	}
+}
@@ -0,0 +1,189 @@
+package console;
+
+import java.nio.CharBuffer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Splits a range of characters into delimited tokens without copying them. Tokens are exposed as
+ * trimmed index ranges into the original characters.
+ * <p>
+ * Delimiters are interpreted as regular expressions, as {@link String#split(String)} does.
+ * Delimiters that contain no regular expression metacharacters (or are a single escaped
+ * character) are matched literally without involving the regex engine; other delimiters are
+ * compiled once, when the {@code Tokenizer} is created.
+ *
+ * @author Ryder James
+ */
+public final class Tokenizer {
+	private static final String METACHARACTERS = ".$|()[]{}^?*+\\";
+
+	private final String my_delimiter;
+	private final char[] my_literal;
+	private final Matcher my_matcher;
+	private char[] my_chars;
+	private int my_position;
+	private int my_limit;
+	private int my_offset;
+	private int my_tokenStart;
+	private int my_tokenEnd;
+	private boolean my_done;
+
+	/**
+	 * Creates a {@code Tokenizer} for the given delimiter
+	 *
+	 * @param delimiter - the delimiter separating tokens
+	 */
+	public Tokenizer(String delimiter) {
+		if (delimiter == null || delimiter.isEmpty()) {
+			throw new IllegalArgumentException("Delimiter must not be empty!");
+		}
+
+		String literal = literalOf(delimiter);
+
+		my_delimiter = delimiter;
+		my_literal = literal == null ? null : literal.toCharArray();
+		my_matcher = literal == null ? Pattern.compile(delimiter).matcher("") : null;
+		my_done = true;
+	}
+
+	/**
+	 * Starts tokenizing a new range of characters
+	 *
+	 * @param chars - the characters to tokenize
+	 * @param from - the inclusive index of the first character
+	 * @param to - the exclusive index of the last character
+	 */
+	public void reset(char[] chars, int from, int to) {
+		my_chars = chars;
+		my_position = from;
+		my_limit = to;
+		my_offset = from;
+		my_done = false;
+
+		if (my_matcher != null) {
+			my_matcher.reset(CharBuffer.wrap(chars, from, to - from));
+		}
+	}
+
+	/**
+	 * Advances to the next token
+	 *
+	 * @return false if every token has been visited, otherwise true
+	 */
+	public boolean next() {
+		if (my_done) {
+			return false;
+		}
+
+		int start = my_position;
+		int end = my_limit;
+
+		if (my_literal != null) {
+			int found = indexOfLiteral(start);
+			if (found >= 0) {
+				end = found;
+				my_position = found + my_literal.length;
+			} else {
+				my_done = true;
+			}
+		} else {
+			my_done = true;
+			while (my_matcher.find()) {
+				int matchStart = my_matcher.start() + my_offset;
+				if (matchStart == start && my_matcher.end() == my_matcher.start()) {
+					continue;
+				}
+				end = matchStart;
+				my_position = my_matcher.end() + my_offset;
+				my_done = false;
+				break;
+			}
+		}
+
+		while (start < end && my_chars[start] <= ' ') {
+			start++;
+		}
+		while (end > start && my_chars[end - 1] <= ' ') {
+			end--;
+		}
+
+		my_tokenStart = start;
+		my_tokenEnd = end;
+		return true;
+	}
+
+	/**
+	 * @return the inclusive index of the first character of the current token
+	 */
+	public int tokenStart() {
+		return my_tokenStart;
+	}
+
+	/**
+	 * @return the exclusive index of the last character of the current token
+	 */
+	public int tokenEnd() {
+		return my_tokenEnd;
+	}
+
+	/**
+	 * @return true if the current token contains no characters other than whitespace
+	 */
+	public boolean isTokenEmpty() {
+		return my_tokenStart == my_tokenEnd;
+	}
+
+	/**
+	 * @return a copy of the current token as a {@code String}
+	 */
+	public String token() {
+		return new String(my_chars, my_tokenStart, my_tokenEnd - my_tokenStart);
+	}
+
+	/**
+	 * @return the delimiter this {@code Tokenizer} splits on
+	 */
+	public String delimiter() {
+		return my_delimiter;
+	}
+
+	private int indexOfLiteral(int from) {
+		char first = my_literal[0];
+		int last = my_limit - my_literal.length;
+
+		for (int i = from; i <= last; i++) {
+			if (my_chars[i] != first) {
+				continue;
+			}
+			int j = 1;
+			while (j < my_literal.length && my_chars[i + j] == my_literal[j]) {
+				j++;
+			}
+			if (j == my_literal.length) {
+				return i;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * @return the literal text matched by the delimiter, or null if it must be treated as a
+	 *         regular expression
+	 */
+	private static String literalOf(String delimiter) {
+		if (delimiter.length() == 2 && delimiter.charAt(0) == '\\'
+				&& !Character.isLetterOrDigit(delimiter.charAt(1))) {
+			return delimiter.substring(1);
+		}
+
+		for (int i = 0; i < delimiter.length(); i++) {
+			if (METACHARACTERS.indexOf(delimiter.charAt(i)) >= 0) {
+				return null;
+			}
+		}
+
+		return delimiter;
+	}
+}
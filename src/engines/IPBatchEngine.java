@@ -0,0 +1,332 @@
+package engines;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import collections.IntList;
+import collections.LongList;
+import enums.IPType;
+import static_classes.IPCodec;
+
+/**
+ * Validates and converts very large files of IPv4 addresses, one address per line, using the same
+ * rules as {@code ConsoleUI.promptForIP}. The input is memory-mapped and split into chunks at line
+ * boundaries, and the chunks are parsed in parallel on a fork-join pool without allocating per
+ * line. Results are streamed out chunk by chunk, in input order.
+ * <p>
+ * The converted output has exactly one line per input line, so line numbers match; lines that are
+ * not valid addresses are left blank there and described in the error report instead.
+ *
+ * @author Ryder James
+ */
+public class IPBatchEngine {
+	private static final int DEFAULT_CHUNK_SIZE = 4 * 1024 * 1024;
+	private static final byte[] LINE_SEPARATOR = { '\n' };
+
+	private final IPType my_from;
+	private final IPType my_to;
+	private final int my_parallelism;
+	private final int my_chunkSize;
+
+	/**
+	 * Creates an engine that uses every available core
+	 *
+	 * @param from - the form the input addresses are written in
+	 * @param to - the form to write the output addresses in
+	 */
+	public IPBatchEngine(IPType from, IPType to) {
+		this(from, to, Runtime.getRuntime().availableProcessors(), DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * Creates an engine
+	 *
+	 * @param from - the form the input addresses are written in
+	 * @param to - the form to write the output addresses in
+	 * @param parallelism - the number of threads to parse with
+	 * @param chunkSize - the approximate number of bytes each parallel task parses
+	 */
+	public IPBatchEngine(IPType from, IPType to, int parallelism, int chunkSize) {
+		if (from == null || to == null) {
+			throw new IllegalArgumentException("Forms must not be null!");
+		}
+		if (parallelism < 1 || chunkSize < 1) {
+			throw new IllegalArgumentException("Parallelism and chunk size must be positive!");
+		}
+		my_from = from;
+		my_to = to;
+		my_parallelism = parallelism;
+		my_chunkSize = chunkSize;
+	}
+
+	/**
+	 * Validates every line of the input file, writing converted addresses and error reports.
+	 * Chunks are written in order as soon as they and every chunk before them have been parsed,
+	 * and at most {@code 2 * parallelism} chunks are held at once, so memory use does not grow with
+	 * the size of the file.
+	 *
+	 * @param input - the file of addresses, one per line
+	 * @param output - where to write the converted addresses, or null to only validate
+	 * @param errors - where to write a line for each invalid address, or null to skip the report
+	 * @return the number of lines processed and how long it took
+	 * @throws IOException if a file cannot be read or written
+	 */
+	public Result run(Path input, Path output, Path errors) throws IOException {
+		long start = System.nanoTime();
+		long lines = 0;
+		long invalidLines = 0;
+		boolean convert = output != null;
+		int window = 2 * my_parallelism;
+
+		try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ);
+				OutputStream out = output == null ? null : open(output);
+				OutputStream report = errors == null ? null
+						: new BufferedOutputStream(open(errors), 64 * 1024)) {
+			LongList ends = split(channel);
+			ArrayDeque<ForkJoinTask<Chunk>> parsing = new ArrayDeque<>(window);
+			ForkJoinPool pool = new ForkJoinPool(my_parallelism);
+			long chunkStart = 0;
+			int next = 0;
+
+			try {
+				while (next < ends.size() || !parsing.isEmpty()) {
+					// Keep the pool busy with the chunks after the one being written
+					while (next < ends.size() && parsing.size() < window) {
+						long chunkEnd = ends.get(next++);
+						Chunk chunk = new Chunk(channel.map(FileChannel.MapMode.READ_ONLY,
+								chunkStart, chunkEnd - chunkStart));
+						parsing.add(pool.submit(() -> chunk.parse(convert), chunk));
+						chunkStart = chunkEnd;
+					}
+
+					// Write the oldest chunk and let it go
+					Chunk chunk = parsing.poll().join();
+					if (out != null) {
+						chunk.my_output.writeTo(out);
+					}
+					if (report != null) {
+						chunk.writeErrors(report, lines + 1);
+					}
+					lines += chunk.my_lines;
+					invalidLines += chunk.my_errorLines.size();
+				}
+			} finally {
+				pool.shutdownNow();
+			}
+		}
+
+		return new Result(lines, invalidLines, System.nanoTime() - start, my_parallelism);
+	}
+
+	/**
+	 * Splits the file into chunks of roughly {@code my_chunkSize} bytes, each ending just after a
+	 * line separator (or at the end of the file).
+	 *
+	 * @return the exclusive end offset of each chunk, in order
+	 */
+	private LongList split(FileChannel channel) throws IOException {
+		LongList ends = new LongList();
+		ByteBuffer probe = ByteBuffer.allocate(4096);
+		long size = channel.size();
+		long start = 0;
+
+		while (start < size) {
+			long end = Math.min(size, start + my_chunkSize);
+
+			search: while (end < size) {
+				probe.clear();
+				int read = channel.read(probe, end);
+				for (int i = 0; i < read; i++) {
+					if (probe.get(i) == '\n') {
+						end += i + 1;
+						break search;
+					}
+				}
+				end += Math.max(read, 0);
+			}
+
+			long length = Math.min(end, size) - start;
+			if (length > Integer.MAX_VALUE) {
+				throw new IOException("Line starting near byte " + start + " is too long!");
+			}
+			start += length;
+			ends.add(start);
+		}
+
+		return ends;
+	}
+
+	private static OutputStream open(Path path) throws IOException {
+		return Channels.newOutputStream(FileChannel.open(path, StandardOpenOption.CREATE,
+				StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING));
+	}
+
+	/**
+	 * The outcome of a batch run
+	 */
+	public static final class Result {
+		private final long my_lines;
+		private final long my_invalidLines;
+		private final long my_nanos;
+		private final int my_parallelism;
+
+		private Result(long lines, long invalidLines, long nanos, int parallelism) {
+			my_lines = lines;
+			my_invalidLines = invalidLines;
+			my_nanos = nanos;
+			my_parallelism = parallelism;
+		}
+
+		/**
+		 * @return the number of lines processed
+		 */
+		public long lines() {
+			return my_lines;
+		}
+
+		/**
+		 * @return the number of lines that were not valid addresses
+		 */
+		public long invalidLines() {
+			return my_invalidLines;
+		}
+
+		/**
+		 * @return the wall clock time of the run, in nanoseconds
+		 */
+		public long nanos() {
+			return my_nanos;
+		}
+
+		/**
+		 * @return the throughput of the run, in lines per second per thread
+		 */
+		public double linesPerSecondPerCore() {
+			return my_lines / (my_nanos / 1e9) / my_parallelism;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%d lines (%d invalid) in %.3f s, %.0f lines/s/core", my_lines,
+					my_invalidLines, my_nanos / 1e9, linesPerSecondPerCore());
+		}
+	}
+
+	/**
+	 * A run of whole lines of the input and the results of parsing them
+	 */
+	private final class Chunk implements CharSequence {
+		private final MappedByteBuffer my_bytes;
+		private final ByteArrayOutputStream my_output = new ByteArrayOutputStream();
+		private final IntList my_errorLines = new IntList();
+		private final LongList my_errorCodes = new LongList();
+		private final IntList my_errorStarts = new IntList();
+		private final IntList my_errorEnds = new IntList();
+		private long my_lines;
+		private int my_lineStart;
+		private int my_lineEnd;
+
+		private Chunk(MappedByteBuffer bytes) {
+			my_bytes = bytes;
+		}
+
+		private void parse(boolean convert) {
+			StringBuilder converted = new StringBuilder(32);
+			byte[] line = new byte[33];
+			int limit = my_bytes.limit();
+			int position = 0;
+
+			while (position < limit) {
+				int end = position;
+				while (end < limit && my_bytes.get(end) != '\n') {
+					end++;
+				}
+
+				my_lineStart = position;
+				my_lineEnd = end;
+				while (my_lineStart < my_lineEnd && my_bytes.get(my_lineStart) <= ' ') {
+					my_lineStart++;
+				}
+				while (my_lineEnd > my_lineStart && my_bytes.get(my_lineEnd - 1) <= ' ') {
+					my_lineEnd--;
+				}
+
+				long address = IPCodec.parse(this, my_from);
+
+				if (address < 0) {
+					my_errorLines.add((int) my_lines);
+					my_errorCodes.add(address);
+					my_errorStarts.add(my_lineStart);
+					my_errorEnds.add(my_lineEnd);
+					if (convert) {
+						my_output.write('\n');
+					}
+				} else if (convert) {
+					converted.setLength(0);
+					IPCodec.format((int) address, my_to, converted);
+					for (int i = 0; i < converted.length(); i++) {
+						line[i] = (byte) converted.charAt(i);
+					}
+					line[converted.length()] = '\n';
+					my_output.write(line, 0, converted.length() + 1);
+				}
+
+				my_lines++;
+				position = end + 1;
+			}
+		}
+
+		private void writeErrors(OutputStream out, long firstLine) throws IOException {
+			for (int i = 0; i < my_errorLines.size(); i++) {
+				int start = my_errorStarts.get(i);
+				byte[] text = new byte[my_errorEnds.get(i) - start];
+
+				for (int j = 0; j < text.length; j++) {
+					text[j] = my_bytes.get(start + j);
+				}
+
+				out.write(("line " + (firstLine + my_errorLines.get(i)) + ": "
+						+ IPCodec.describe(my_errorCodes.get(i), my_from) + ": ")
+								.getBytes(StandardCharsets.UTF_8));
+				out.write(text);
+				out.write(LINE_SEPARATOR);
+			}
+		}
+
+		@Override
+		public int length() {
+			return my_lineEnd - my_lineStart;
+		}
+
+		@Override
+		public char charAt(int index) {
+			return (char) (my_bytes.get(my_lineStart + index) & 0xFF);
+		}
+
+		@Override
+		public CharSequence subSequence(int start, int end) {
+			return toString().substring(start, end);
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder line = new StringBuilder(length());
+			for (int i = 0; i < length(); i++) {
+				line.append(charAt(i));
+			}
+			return line.toString();
+		}
+	}
+}
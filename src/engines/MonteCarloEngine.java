@@ -0,0 +1,218 @@
+package engines;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+
+import collections.IntDeck;
+
+/**
+ * Estimates the odds of dealt hands by running millions of shuffle-and-deal trials in parallel on
+ * a fork-join pool. The deck is held as {@code int} card codes (see {@link IntDeck}); each task
+ * reuses one copy of the deck and one hand buffer, and draws from its own random number stream,
+ * so the trial loop allocates nothing.
+ * <p>
+ * The trials are split into a fixed tree of tasks and every task's stream is split from the seed,
+ * so a run with the same seed gives the same result however many threads it uses.
+ *
+ * @author Ryder James
+ */
+public class MonteCarloEngine {
+	private static final long TRIALS_PER_TASK = 1 << 16;
+
+	private final int[] my_deck;
+	private final int my_handSize;
+	private final int my_parallelism;
+
+	/**
+	 * Looks at each dealt hand and records what it finds
+	 *
+	 * @param <A> the type of the accumulated results
+	 */
+	@FunctionalInterface
+	public interface Trial<A> {
+		/**
+		 * @param results - the results of the trials run so far by this task
+		 * @param hand - the codes of the dealt cards, in the order they were drawn. The array is
+		 *            reused for the next trial, so it must not be kept.
+		 */
+		void deal(A results, int[] hand);
+	}
+
+	/**
+	 * Creates an engine that uses every available core
+	 *
+	 * @param deck - the cards to shuffle and deal from
+	 * @param handSize - the number of cards dealt in each trial
+	 */
+	public MonteCarloEngine(IntDeck deck, int handSize) {
+		this(deck, handSize, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Creates an engine
+	 *
+	 * @param deck - the cards to shuffle and deal from
+	 * @param handSize - the number of cards dealt in each trial
+	 * @param parallelism - the number of threads to run trials on
+	 */
+	public MonteCarloEngine(IntDeck deck, int handSize, int parallelism) {
+		if (handSize < 1 || handSize > deck.size()) {
+			throw new IllegalArgumentException("Hand size must be between 1 and the deck size!");
+		}
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("Parallelism must be positive!");
+		}
+		my_deck = deck.toArray();
+		my_handSize = handSize;
+		my_parallelism = parallelism;
+	}
+
+	/**
+	 * Runs the trials
+	 *
+	 * @param trials - the number of hands to deal
+	 * @param seed - the seed every random number stream is split from
+	 * @param results - creates an empty set of results for each task
+	 * @param trial - records the outcome of one hand
+	 * @param combiner - merges the results of two tasks
+	 * @return the combined results of every trial and how long they took
+	 */
+	public <A> Result<A> run(long trials, long seed, Supplier<A> results, Trial<A> trial,
+			BinaryOperator<A> combiner) {
+		if (trials < 1) {
+			throw new IllegalArgumentException("Must run at least 1 trial!");
+		}
+
+		long start = System.nanoTime();
+		long tasks = (trials + TRIALS_PER_TASK - 1) / TRIALS_PER_TASK;
+		ForkJoinPool pool = new ForkJoinPool(my_parallelism);
+		A value;
+
+		try {
+			value = pool.invoke(new DealTask<>(trials, 0, tasks, new SplittableRandom(seed),
+					results, trial, combiner));
+		} finally {
+			pool.shutdown();
+		}
+
+		return new Result<>(value, trials, System.nanoTime() - start, my_parallelism);
+	}
+
+	/**
+	 * The outcome of a simulation
+	 *
+	 * @param <A> the type of the accumulated results
+	 */
+	public static final class Result<A> {
+		private final A my_value;
+		private final long my_trials;
+		private final long my_nanos;
+		private final int my_parallelism;
+
+		private Result(A value, long trials, long nanos, int parallelism) {
+			my_value = value;
+			my_trials = trials;
+			my_nanos = nanos;
+			my_parallelism = parallelism;
+		}
+
+		/**
+		 * @return the combined results of every trial
+		 */
+		public A value() {
+			return my_value;
+		}
+
+		/**
+		 * @return the number of trials run
+		 */
+		public long trials() {
+			return my_trials;
+		}
+
+		/**
+		 * @return the wall clock time of the run, in nanoseconds
+		 */
+		public long nanos() {
+			return my_nanos;
+		}
+
+		/**
+		 * @return the throughput of the run, in trials per second per thread
+		 */
+		public double trialsPerSecondPerCore() {
+			return my_trials / (my_nanos / 1e9) / my_parallelism;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%d trials in %.3f s, %.0f trials/s/core", my_trials,
+					my_nanos / 1e9, trialsPerSecondPerCore());
+		}
+	}
+
+	/**
+	 * Splits the tasks in half, giving each half its own random number stream, until a single
+	 * task is left, then runs its trials
+	 */
+	private final class DealTask<A> extends RecursiveTask<A> {
+		private static final long serialVersionUID = 1L;
+
+		private final long my_trials;
+		private final long my_first;
+		private final long my_last;
+		private final SplittableRandom my_random;
+		private final Supplier<A> my_results;
+		private final Trial<A> my_trial;
+		private final BinaryOperator<A> my_combiner;
+
+		private DealTask(long trials, long first, long last, SplittableRandom random,
+				Supplier<A> results, Trial<A> trial, BinaryOperator<A> combiner) {
+			my_trials = trials;
+			my_first = first;
+			my_last = last;
+			my_random = random;
+			my_results = results;
+			my_trial = trial;
+			my_combiner = combiner;
+		}
+
+		@Override
+		protected A compute() {
+			if (my_last - my_first > 1) {
+				long middle = (my_first + my_last) >>> 1;
+				DealTask<A> left = new DealTask<>(my_trials, my_first, middle, my_random.split(),
+						my_results, my_trial, my_combiner);
+				DealTask<A> right = new DealTask<>(my_trials, middle, my_last, my_random,
+						my_results, my_trial, my_combiner);
+
+				left.fork();
+				A rightResults = right.compute();
+				return my_combiner.apply(left.join(), rightResults);
+			}
+
+			A results = my_results.get();
+			int[] deck = my_deck.clone();
+			int[] hand = new int[my_handSize];
+			long count = Math.min(TRIALS_PER_TASK, my_trials - my_first * TRIALS_PER_TASK);
+
+			for (long t = 0; t < count; t++) {
+				// Only the dealt cards need shuffling; the rest of the deck stays a permutation
+				for (int i = 0; i < hand.length; i++) {
+					int top = deck.length - 1 - i;
+					int j = my_random.nextInt(top + 1);
+					int card = deck[j];
+					deck[j] = deck[top];
+					deck[top] = card;
+					hand[i] = card;
+				}
+				my_trial.deal(results, hand);
+			}
+
+			return results;
+		}
+	}
+}
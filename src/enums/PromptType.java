@@ -0,0 +1,12 @@
+package enums;
+
+public enum PromptType {
+
+	BOOL,
+	NUMBER,
+	CHAR,
+	IP,
+	ARRAY,
+	TEXT;
+	
+}
@@ -0,0 +1,26 @@
+package interfaces;
+
+import collections.IntDeck;
+
+/**
+ * Maps {@code Card} objects to and from the {@code int} codes an {@link IntDeck} stores, so decks
+ * can be kept without a {@code Card} object per card and only decoded when a card is looked at.
+ * Encoding a card and decoding the code must give back an equal card.
+ *
+ * @author Ryder James
+ * @param <C> the type of {@code Card} this codec handles
+ */
+public interface CardCodec<C extends Card> {
+
+	/**
+	 * @param card - the card to encode
+	 * @return the code for the card
+	 */
+	public abstract int encode(C card);
+
+	/**
+	 * @param code - a code returned by {@link #encode(Card) encode}
+	 * @return the card the code stands for
+	 */
+	public abstract C decode(int code);
+}
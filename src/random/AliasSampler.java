@@ -0,0 +1,123 @@
+package random;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+
+/**
+ * Picks indices at random in proportion to a table of weights, using Vose's alias method. Building
+ * the sampler takes O(n) time once; after that every pick takes constant time however many
+ * outcomes there are, from one random int and one random double.
+ * <p>
+ * A sampler is immutable, so any number of threads can share one, each drawing from its own
+ * generator.
+ *
+ * @author Ryder James
+ */
+public final class AliasSampler {
+	private final double[] my_probabilities;
+	private final int[] my_aliases;
+
+	/**
+	 * Builds a sampler
+	 *
+	 * @param weights - the relative weight of each index. Weights must not be negative, and at
+	 *            least one must be positive.
+	 */
+	public AliasSampler(double... weights) {
+		int n = weights.length;
+		double total = 0;
+
+		for (double weight : weights) {
+			if (!(weight >= 0) || Double.isInfinite(weight)) {
+				throw new IllegalArgumentException("Weights must be finite and not negative!");
+			}
+			total += weight;
+		}
+		if (!(total > 0) || Double.isInfinite(total)) {
+			throw new IllegalArgumentException("Weights must add up to a finite positive number!");
+		}
+
+		my_probabilities = new double[n];
+		my_aliases = new int[n];
+
+		// Scale the weights so they average 1, then pair each column under 1 with one over it
+		double[] scaled = new double[n];
+		int[] small = new int[n];
+		int[] large = new int[n];
+		int smallCount = 0;
+		int largeCount = 0;
+
+		for (int i = 0; i < n; i++) {
+			// Divided first, as weights[i] * n overflows for weights near Double.MAX_VALUE
+			scaled[i] = weights[i] / total * n;
+			if (scaled[i] < 1) {
+				small[smallCount++] = i;
+			} else {
+				large[largeCount++] = i;
+			}
+		}
+
+		while (smallCount > 0 && largeCount > 0) {
+			int less = small[--smallCount];
+			int more = large[--largeCount];
+
+			my_probabilities[less] = scaled[less];
+			my_aliases[less] = more;
+			scaled[more] = scaled[more] + scaled[less] - 1;
+			if (scaled[more] < 1) {
+				small[smallCount++] = more;
+			} else {
+				large[largeCount++] = more;
+			}
+		}
+
+		// Whatever is left is 1 up to rounding error
+		while (largeCount > 0) {
+			my_probabilities[large[--largeCount]] = 1;
+		}
+		while (smallCount > 0) {
+			my_probabilities[small[--smallCount]] = 1;
+		}
+	}
+
+	/**
+	 * @return the number of indices this sampler picks from
+	 */
+	public int size() {
+		return my_probabilities.length;
+	}
+
+	/**
+	 * @param random - the random number generator to use
+	 * @return a random index, picked in proportion to its weight
+	 */
+	public int sample(Random random) {
+		return pick(random.nextInt(my_probabilities.length), random.nextDouble());
+	}
+
+	/**
+	 * @param random - the random number generator to use
+	 * @return a random index, picked in proportion to its weight
+	 */
+	public int sample(SplittableRandom random) {
+		return pick(random.nextInt(my_probabilities.length), random.nextDouble());
+	}
+
+	/**
+	 * Fills an array with random indices, each picked in proportion to its weight
+	 *
+	 * @param into - the array to fill
+	 * @param random - the random number generator to use
+	 * @return into
+	 */
+	public int[] fill(int[] into, SplittableRandom random) {
+		for (int i = 0; i < into.length; i++) {
+			into[i] = sample(random);
+		}
+		return into;
+	}
+
+	private int pick(int column, double coin) {
+		return coin < my_probabilities[column] ? column : my_aliases[column];
+	}
+}
@@ -0,0 +1,239 @@
+package random;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+import static_classes.StaticHelper;
+
+/**
+ * A fast, reproducible source of random values with the same API as {@link StaticHelper}, plus
+ * bulk fills of whole arrays. Each service owns its own generator, so there is no shared state for
+ * threads to contend on. A service is not thread-safe; give each thread its own with
+ * {@link #split()}, which is reproducible when the parent was seeded.
+ *
+ * @author Ryder James
+ */
+public class RandomService {
+	private final SplittableRandom my_random;
+
+	/**
+	 * Creates a service with an unpredictable seed
+	 */
+	public RandomService() {
+		this(new SplittableRandom());
+	}
+
+	/**
+	 * Creates a service that always produces the same values for the same seed
+	 *
+	 * @param seed - the seed for the random number generator
+	 */
+	public RandomService(long seed) {
+		this(new SplittableRandom(seed));
+	}
+
+	private RandomService(SplittableRandom random) {
+		my_random = random;
+	}
+
+	/**
+	 * Creates a service for another thread to use. Its values are independent of this service's,
+	 * and are the same every time if this service was seeded and has been used the same way.
+	 *
+	 * @return the new service
+	 */
+	public RandomService split() {
+		return new RandomService(my_random.split());
+	}
+
+	/**
+	 * @param min - the lowest value, inclusive
+	 * @param max - the highest value, inclusive
+	 * @return a random int from min to max
+	 */
+	public int randomInt(int min, int max) {
+		if (max < min) {
+			throw new IllegalArgumentException("Max must be not be less than min");
+		}
+		return nextInt(min, max);
+	}
+
+	/**
+	 * @param arr - the array to pick from
+	 * @return a random element of the array
+	 */
+	public <T extends Object> T randomElement(T[] arr) {
+		if (arr.length == 0) {
+			throw new IllegalArgumentException("Array must not be empty");
+		}
+		return arr[my_random.nextInt(arr.length)];
+	}
+
+	/**
+	 * Picks an element at random, in proportion to its weight
+	 *
+	 * @param arr - the array to pick from
+	 * @param weights - a sampler built from the weight of each element of the array
+	 * @return a random element of the array
+	 */
+	public <T extends Object> T randomElement(T[] arr, AliasSampler weights) {
+		if (weights.size() != arr.length) {
+			throw new IllegalArgumentException("There must be one weight per element");
+		}
+		return arr[weights.sample(my_random)];
+	}
+
+	/**
+	 * Picks {@code k} elements at random in a single pass, without knowing the number of
+	 * elements in advance
+	 *
+	 * @param source - the elements to pick from, such as a {@code Deck}
+	 * @param k - the number of elements to pick
+	 * @return the picked elements in no particular order, or every element if there are
+	 *         {@code k} or fewer
+	 * @see Reservoir
+	 */
+	public <T> List<T> sample(Iterable<? extends T> source, int k) {
+		return Reservoir.sample(source.iterator(), k, my_random::nextDouble);
+	}
+
+	/**
+	 * Picks {@code k} elements of a stream at random in a single pass
+	 *
+	 * @param source - the elements to pick from
+	 * @param k - the number of elements to pick
+	 * @return the picked elements in no particular order, or every element if there are
+	 *         {@code k} or fewer
+	 * @see Reservoir
+	 */
+	public <T> List<T> sample(Stream<? extends T> source, int k) {
+		return Reservoir.sample(source.iterator(), k, my_random::nextDouble);
+	}
+
+	/**
+	 * @return a random long
+	 */
+	public long nextLong() {
+		return my_random.nextLong();
+	}
+
+	/**
+	 * @return a random double from 0 (inclusive) to 1 (exclusive)
+	 */
+	public double nextDouble() {
+		return my_random.nextDouble();
+	}
+
+	/**
+	 * Fills an array with random ints
+	 *
+	 * @param into - the array to fill
+	 * @return into
+	 */
+	public int[] fill(int[] into) {
+		for (int i = 0; i < into.length; i++) {
+			into[i] = my_random.nextInt();
+		}
+		return into;
+	}
+
+	/**
+	 * Fills an array with random ints from min to max
+	 *
+	 * @param into - the array to fill
+	 * @param min - the lowest value, inclusive
+	 * @param max - the highest value, inclusive
+	 * @return into
+	 */
+	public int[] fill(int[] into, int min, int max) {
+		if (max < min) {
+			throw new IllegalArgumentException("Max must be not be less than min");
+		}
+		for (int i = 0; i < into.length; i++) {
+			into[i] = nextInt(min, max);
+		}
+		return into;
+	}
+
+	/**
+	 * Fills an array with random longs
+	 *
+	 * @param into - the array to fill
+	 * @return into
+	 */
+	public long[] fill(long[] into) {
+		for (int i = 0; i < into.length; i++) {
+			into[i] = my_random.nextLong();
+		}
+		return into;
+	}
+
+	/**
+	 * Fills an array with random longs from min to max
+	 *
+	 * @param into - the array to fill
+	 * @param min - the lowest value, inclusive
+	 * @param max - the highest value, inclusive
+	 * @return into
+	 */
+	public long[] fill(long[] into, long min, long max) {
+		if (max < min) {
+			throw new IllegalArgumentException("Max must be not be less than min");
+		}
+		for (int i = 0; i < into.length; i++) {
+			into[i] = max == Long.MAX_VALUE ? nextLongThrough(min) : my_random.nextLong(min, max + 1);
+		}
+		return into;
+	}
+
+	/**
+	 * Fills an array with random doubles from 0 (inclusive) to 1 (exclusive)
+	 *
+	 * @param into - the array to fill
+	 * @return into
+	 */
+	public double[] fill(double[] into) {
+		for (int i = 0; i < into.length; i++) {
+			into[i] = my_random.nextDouble();
+		}
+		return into;
+	}
+
+	/**
+	 * Fills an array with random doubles from min (inclusive) to max (exclusive)
+	 *
+	 * @param into - the array to fill
+	 * @param min - the lowest value, inclusive
+	 * @param max - the highest value, exclusive
+	 * @return into
+	 */
+	public double[] fill(double[] into, double min, double max) {
+		if (!(min < max)) {
+			throw new IllegalArgumentException("Max must be greater than min");
+		}
+		for (int i = 0; i < into.length; i++) {
+			into[i] = my_random.nextDouble(min, max);
+		}
+		return into;
+	}
+
+	/**
+	 * @return a random int from min to max, inclusive, even when the range is wider than
+	 *         {@code Integer.MAX_VALUE}
+	 */
+	private int nextInt(int min, int max) {
+		int range = max - min + 1;
+		return range > 0 ? min + my_random.nextInt(range) : (int) my_random.nextLong(min, max + 1L);
+	}
+
+	/**
+	 * @return a random long from min to {@code Long.MAX_VALUE}, inclusive
+	 */
+	private long nextLongThrough(long min) {
+		if (min == Long.MIN_VALUE) {
+			return my_random.nextLong();
+		}
+		return my_random.nextLong(min - 1, Long.MAX_VALUE) + 1;
+	}
+}
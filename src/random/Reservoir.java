@@ -0,0 +1,69 @@
+package random;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Reservoir sampling: picks k elements uniformly at random from a source of unknown size in a
+ * single pass, holding only the k picked elements. Uses Li's "Algorithm L", which works out how
+ * many elements to skip before the next replacement, so the random number generator is called
+ * O(k log(n/k)) times rather than once per element.
+ *
+ * @author Ryder James
+ */
+public final class Reservoir {
+	/**
+	 * Don't let anyone else instantiate this class
+	 */
+	private Reservoir() {}
+
+	/**
+	 * Picks up to {@code k} elements, every subset of that size being equally likely
+	 *
+	 * @param source - the elements to pick from, read once
+	 * @param k - the number of elements to pick
+	 * @param random - returns a random double from 0 (inclusive) to 1 (exclusive)
+	 * @return the picked elements in no particular order; every element if the source holds
+	 *         {@code k} or fewer
+	 */
+	public static <T> List<T> sample(Iterator<? extends T> source, int k, DoubleSupplier random) {
+		if (k < 0) {
+			throw new IllegalArgumentException("Sample size must not be negative!");
+		}
+
+		List<T> reservoir = new ArrayList<>(Math.min(k, 1024));
+
+		while (reservoir.size() < k && source.hasNext()) {
+			reservoir.add(source.next());
+		}
+		if (k == 0 || !source.hasNext()) {
+			return reservoir;
+		}
+
+		double w = Math.exp(Math.log(uniform(random)) / k);
+		while (true) {
+			long skip = (long) Math.floor(Math.log(uniform(random)) / Math.log1p(-w));
+			for (; skip > 0; skip--) {
+				if (!source.hasNext()) {
+					return reservoir;
+				}
+				source.next();
+			}
+			if (!source.hasNext()) {
+				return reservoir;
+			}
+
+			reservoir.set((int) (random.getAsDouble() * k), source.next());
+			w *= Math.exp(Math.log(uniform(random)) / k);
+		}
+	}
+
+	/**
+	 * @return a random double from 0 (exclusive) to 1 (inclusive), so its log is finite
+	 */
+	private static double uniform(DoubleSupplier random) {
+		return 1 - random.getAsDouble();
+	}
+}
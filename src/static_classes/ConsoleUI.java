@@ -1,21 +1,156 @@
 package static_classes;
 
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStreamReader;
-import java.text.DecimalFormat;
-import java.text.NumberFormat;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.Arrays;
-
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import collections.DoubleList;
+import collections.IntList;
+import collections.LongList;
+import console.ArrayRenderer;
+import console.AsyncPrompter;
+import console.ConsoleOutput;
+import console.ConsoleSession;
+import console.LineSource;
+import console.Menu;
+import console.RecordReader;
+import console.TableRenderer;
 import enums.IPType;
 import interfaces.MenuOption;
 
+/**
+ * Static console prompts. Every prompt acts on {@link ConsoleSession#current()}, which reads
+ * {@code System.in} and prints to {@code System.out} unless another session has been bound to the
+ * calling thread.
+ * 
+ * @author Ryder James
+ */
 public class ConsoleUI {
 	/**
 	 * Don't let anyone else instantiate this class
 	 */
 	private ConsoleUI() {}
+
+	/**
+	 * Sets the source that every prompt reads its responses from. The source is shared by all
+	 * prompts, so lines piped in ahead of time are never lost between prompts.
+	 * 
+	 * @param source - the {@code LineSource} to read responses from
+	 */
+	public static void setInput(LineSource source) {
+		ConsoleSession.current().setInput(source);
+	}
+
+	/**
+	 * Sets the {@code Reader} that every prompt reads its responses from.
+	 * 
+	 * @param reader - the {@code Reader} to read responses from
+	 * @see #setInput(LineSource)
+	 */
+	public static void setInput(Reader reader) {
+		setInput(new LineSource(reader));
+	}
+
+	/**
+	 * Sets the {@code InputStream} that every prompt reads its responses from.
+	 * 
+	 * @param stream - the {@code InputStream} to read responses from
+	 * @see #setInput(LineSource)
+	 */
+	public static void setInput(InputStream stream) {
+		setInput(new LineSource(stream));
+	}
+
+	/**
+	 * Sets the {@code ReadableByteChannel} that every prompt reads its responses from.
+	 * 
+	 * @param channel - the {@code ReadableByteChannel} to read responses from
+	 * @see #setInput(LineSource)
+	 */
+	public static void setInput(ReadableByteChannel channel) {
+		setInput(new LineSource(channel));
+	}
 	
+	/**
+	 * Sets the destination of everything the prompts print. Output is collected for a whole prompt
+	 * cycle and written in one go, right before the prompt waits for input.
+	 * 
+	 * @param output - the {@code ConsoleOutput} to print to
+	 */
+	public static void setOutput(ConsoleOutput output) {
+		ConsoleSession.current().setOutput(output);
+	}
+
+	/**
+	 * Sets the {@code Writer} that the prompts print to.
+	 * 
+	 * @param writer - the {@code Writer} to print to
+	 * @see #setOutput(ConsoleOutput)
+	 */
+	public static void setOutput(Writer writer) {
+		setOutput(new ConsoleOutput(writer));
+	}
+
+	/**
+	 * Sets the {@code OutputStream} that the prompts print to.
+	 * 
+	 * @param stream - the {@code OutputStream} to print to
+	 * @see #setOutput(ConsoleOutput)
+	 */
+	public static void setOutput(OutputStream stream) {
+		setOutput(new ConsoleOutput(stream));
+	}
+
+	/**
+	 * Sets the {@code WritableByteChannel} that the prompts print to.
+	 * 
+	 * @param channel - the {@code WritableByteChannel} to print to
+	 * @see #setOutput(ConsoleOutput)
+	 */
+	public static void setOutput(WritableByteChannel channel) {
+		setOutput(new ConsoleOutput(channel));
+	}
+
+	/**
+	 * Runs a prompt on a background thread instead of blocking the caller. While any asynchronous
+	 * prompt is outstanding, prompts should not also be called directly. A prompt that is
+	 * cancelled stops before it reads another line.
+	 * 
+	 * @param prompt - the prompt to run, such as {@code () -> ConsoleUI.promptForInt()}
+	 * @return a future completed with the prompt's result
+	 * @see AsyncPrompter
+	 */
+	public static <T> CompletableFuture<T> promptAsync(Supplier<T> prompt) {
+		return ConsoleSession.current().promptAsync(prompt);
+	}
+
+	/**
+	 * Runs a prompt on a background thread instead of blocking the caller, completing with the
+	 * default value if no valid response arrives in time. While any asynchronous prompt is
+	 * outstanding, prompts should not also be called directly. A prompt that times out or is
+	 * cancelled stops before it reads another line, so the next line goes to whatever comes next.
+	 * 
+	 * @param prompt - the prompt to run, such as {@code () -> ConsoleUI.promptForInt()}
+	 * @param timeout - how long to wait for a response
+	 * @param unit - the unit of the timeout
+	 * @param defaultValue - the value to complete with if the timeout elapses
+	 * @return a future completed with the prompt's result, or defaultValue on timeout
+	 * @see AsyncPrompter
+	 */
+	public static <T> CompletableFuture<T> promptAsync(Supplier<T> prompt, long timeout,
+			TimeUnit unit, T defaultValue) {
+		return ConsoleSession.current().promptAsync(prompt, timeout, unit, defaultValue);
+	}
+
 	/**
 	 * Generates a console-based menu using the values in options as the menu items. Reserves the
 	 * number 0 for the "Quit" option.
@@ -48,16 +183,7 @@ public class ConsoleUI {
 	 * @return null if 0, or the enum value chosen
 	 */
 	public static <T extends MenuOption> T promptForMenuSelection(T[] options, String zeroOption) {
-		int choice;
-		for (int i = 1; i <= options.length; i++) {
-			System.out.println(i + ")\t" + options[i - 1].getDesc());
-		}
-		if (!zeroOption.isEmpty()) {
-			System.out.println("0)\t" + zeroOption);
-		}
-		choice = promptForInt("Select a menu option", zeroOption.isEmpty() ? 1 : 0, options.length);
-		System.out.println();
-		return choice == 0 ? null : options[choice - 1];
+		return ConsoleSession.current().promptForMenuSelection(options, zeroOption);
 	}
 
 	/**
@@ -92,19 +218,55 @@ public class ConsoleUI {
 	 * @return the int of the selection made by the user
 	 */
 	public static int promptForMenuSelection(String[] options, String zeroOption) {
-		int result;
-		
-		for (int i = 1; i <= options.length; i++) {
-			System.out.println(i + ")\t" + options[i - 1]);
-		}
+		return ConsoleSession.current().promptForMenuSelection(options, zeroOption);
+	}
 
-		if (!zeroOption.isEmpty()) {
-			System.out.println("0)\t" + zeroOption);
-		}
-		
-		result = promptForInt("Select a menu option", zeroOption.isEmpty() ? 1 : 0, options.length);
-		System.out.println();
-		return result;
+	/**
+	 * Registers a console-based menu using the values in options as the menu items, so it can be
+	 * shown any number of times without being rebuilt. Reserves the number 0 for the zeroOption,
+	 * if provided.
+	 * 
+	 * @param options - the menu options
+	 * @param zeroOption - A string representing what the number 0 should say
+	 * @return a handle to pass to {@link #promptForMenuSelection(Menu) promptForMenuSelection()}
+	 */
+	public static <T extends MenuOption> Menu<T> registerMenu(T[] options, String zeroOption) {
+		return Menu.of(options, zeroOption);
+	}
+
+	/**
+	 * Registers a console-based menu using the Strings in options as the menu items, so it can be
+	 * shown any number of times without being rebuilt. Reserves the number 0 for the zeroOption,
+	 * if provided.
+	 * 
+	 * @param options - Strings representing the menu options
+	 * @param zeroOption - A string representing what the number 0 should say
+	 * @return a handle to pass to {@link #promptForMenuChoice(Menu) promptForMenuChoice()}
+	 */
+	public static Menu<String> registerMenu(String[] options, String zeroOption) {
+		return Menu.of(options, zeroOption);
+	}
+
+	/**
+	 * Shows a registered menu and prompts for a selection. The menu is only re-rendered if one of
+	 * its descriptions has changed.
+	 * 
+	 * @param menu - the menu returned by {@link #registerMenu(MenuOption[], String) registerMenu()}
+	 * @return null if 0, or the option chosen
+	 */
+	public static <T> T promptForMenuSelection(Menu<T> menu) {
+		return ConsoleSession.current().promptForMenuSelection(menu);
+	}
+
+	/**
+	 * Shows a registered menu and prompts for a selection. The menu is only re-rendered if one of
+	 * its descriptions has changed.
+	 * 
+	 * @param menu - the menu returned by {@link #registerMenu(String[], String) registerMenu()}
+	 * @return the int of the selection made by the user
+	 */
+	public static int promptForMenuChoice(Menu<?> menu) {
+		return ConsoleSession.current().promptForMenuChoice(menu);
 	}
 
 	/**
@@ -155,24 +317,7 @@ public class ConsoleUI {
 	 */
 	public static boolean promptForBool(String prompt, String trueString, String falseString,
 			boolean appendColon) {
-		String input;
-
-		if (trueString.equals(falseString)) {
-			throw new IllegalArgumentException("trueString cannot equal falseString!");
-		}
-
-		do {
-			input = promptForInput(prompt, true, appendColon);
-
-			if (input.equalsIgnoreCase(trueString)) {
-				return true;
-			} else if (input.equalsIgnoreCase(falseString)) {
-				return false;
-			} else {
-				System.out.println("Input must be " + trueString + " or " + falseString + "!");
-				continue;
-			}
-		} while (true);
+		return ConsoleSession.current().promptForBool(prompt, trueString, falseString, appendColon);
 	}
 
 	/**
@@ -206,22 +351,7 @@ public class ConsoleUI {
 	 * @return the byte value
 	 */
 	public static byte promptForByte(String prompt, byte min, byte max) {
-		double input;
-		byte result = 0;
-
-		do {
-			input = promptForNumber(prompt, min, max);
-
-			if (Math.floor(input) == input) {
-				result = (byte) input;
-				break;
-			} else {
-				System.out.println("Input must not be a floating point number!");
-				continue;
-			}
-		} while (true);
-
-		return result;
+		return ConsoleSession.current().promptForByte(prompt, min, max);
 	}
 
 	/**
@@ -255,22 +385,7 @@ public class ConsoleUI {
 	 * @return the short value
 	 */
 	public static short promptForShort(String prompt, short min, short max) {
-		double input;
-		short result = 0;
-
-		do {
-			input = promptForNumber(prompt, min, max);
-
-			if (Math.floor(input) == input) {
-				result = (short) input;
-				break;
-			} else {
-				System.out.println("Input must not be a floating point number!");
-				continue;
-			}
-		} while (true);
-
-		return result;
+		return ConsoleSession.current().promptForShort(prompt, min, max);
 	}
 
 	/**
@@ -304,22 +419,7 @@ public class ConsoleUI {
 	 * @return the int value
 	 */
 	public static int promptForInt(String prompt, int min, int max) {
-		double input;
-		int result = 0;
-
-		do {
-			input = promptForNumber(prompt, min, max);
-
-			if (Math.floor(input) == input) {
-				result = (int) input;
-				break;
-			} else {
-				System.out.println("Input must not be a floating point number!");
-				continue;
-			}
-		} while (true);
-
-		return result;
+		return ConsoleSession.current().promptForInt(prompt, min, max);
 	}
 
 	/**
@@ -353,22 +453,7 @@ public class ConsoleUI {
 	 * @return the long value
 	 */
 	public static long promptForLong(String prompt, long min, long max) {
-		double input;
-		long result = 0;
-
-		do {
-			input = promptForNumber(prompt, min, max);
-
-			if (Math.floor(input) == input) {
-				result = (long) input;
-				break;
-			} else {
-				System.out.println("Input must not be a floating point number!");
-				continue;
-			}
-		} while (true);
-
-		return result;
+		return ConsoleSession.current().promptForLong(prompt, min, max);
 	}
 
 	/**
@@ -402,7 +487,7 @@ public class ConsoleUI {
 	 * @return the float value
 	 */
 	public static float promptForFloat(String prompt, float min, float max) {
-		return (float) promptForNumber(prompt, min, max);
+		return ConsoleSession.current().promptForFloat(prompt, min, max);
 	}
 
 	/**
@@ -436,7 +521,7 @@ public class ConsoleUI {
 	 * @return the double value
 	 */
 	public static double promptForDouble(String prompt, double min, double max) {
-		return promptForNumber(prompt, min, max);
+		return ConsoleSession.current().promptForDouble(prompt, min, max);
 	}
 
 	/**
@@ -480,56 +565,93 @@ public class ConsoleUI {
 	 * @return the char value
 	 */
 	public static char promptForChar(String prompt, char min, char max) {
-		String toParse;
-		char result;
-
-		if (min >= max) {
-			throw new IllegalArgumentException("Min must be less than max!");
-		}
+		return ConsoleSession.current().promptForChar(prompt, min, max);
+	}
 
-		do {
-			toParse = promptForInput(prompt, false);
-			result = 0;
+	/**
+	 * Generates a prompt that allows the user to enter an array of int values, separated by the
+	 * given delimiter. Entries that are not valid int values are reported by position and the user
+	 * is asked to re-enter only those entries.
+	 * 
+	 * @param prompt - the prompt to be displayed to the user
+	 * @param delimiter - the delimiter to separate array elements in the string
+	 * @return an array populated by the int values entered
+	 */
+	public static int[] promptForIntArray(String prompt, String delimiter) {
+		return promptForIntArray(prompt, delimiter, new IntList()).toArray();
+	}
 
-			if (toParse.length() > 1) {
-				System.out.println("Input must be a single character!");
-				continue;
-			}
+	/**
+	 * Generates a prompt that allows the user to enter an array of int values, separated by the
+	 * given delimiter. Each entry is parsed straight out of the input buffer into the given list,
+	 * so very long lines are never split into intermediate Strings. Entries that are not valid
+	 * int values are reported by position and the user is asked to re-enter only those entries.
+	 * 
+	 * @param prompt - the prompt to be displayed to the user
+	 * @param delimiter - the delimiter to separate array elements in the string
+	 * @param into - the list to fill. It is cleared first, and can be reused between prompts.
+	 * @return the given list, populated by the int values entered
+	 */
+	public static IntList promptForIntArray(String prompt, String delimiter, IntList into) {
+		return ConsoleSession.current().promptForIntArray(prompt, delimiter, into);
+	}
 
-			result = toParse.charAt(0);
+	/**
+	 * Generates a prompt that allows the user to enter an array of long values, separated by the
+	 * given delimiter. Entries that are not valid long values are reported by position and the user
+	 * is asked to re-enter only those entries.
+	 * 
+	 * @param prompt - the prompt to be displayed to the user
+	 * @param delimiter - the delimiter to separate array elements in the string
+	 * @return an array populated by the long values entered
+	 */
+	public static long[] promptForLongArray(String prompt, String delimiter) {
+		return promptForLongArray(prompt, delimiter, new LongList()).toArray();
+	}
 
-			if (result < min || result > max) {
-				System.out.println("Input must be from " + Character.valueOf(min) + " to "
-						+ Character.valueOf(max) + "!");
-				continue;
-			} else {
-				break;
-			}
-		} while (true);
+	/**
+	 * Generates a prompt that allows the user to enter an array of long values, separated by the
+	 * given delimiter. Each entry is parsed straight out of the input buffer into the given list,
+	 * so very long lines are never split into intermediate Strings. Entries that are not valid
+	 * long values are reported by position and the user is asked to re-enter only those entries.
+	 * 
+	 * @param prompt - the prompt to be displayed to the user
+	 * @param delimiter - the delimiter to separate array elements in the string
+	 * @param into - the list to fill. It is cleared first, and can be reused between prompts.
+	 * @return the given list, populated by the long values entered
+	 */
+	public static LongList promptForLongArray(String prompt, String delimiter, LongList into) {
+		return ConsoleSession.current().promptForLongArray(prompt, delimiter, into);
+	}
 
-		return result;
+	/**
+	 * Generates a prompt that allows the user to enter an array of double values, separated by the
+	 * given delimiter. Entries that are not valid double values are reported by position and the user
+	 * is asked to re-enter only those entries.
+	 * 
+	 * @param prompt - the prompt to be displayed to the user
+	 * @param delimiter - the delimiter to separate array elements in the string
+	 * @return an array populated by the double values entered
+	 */
+	public static double[] promptForDoubleArray(String prompt, String delimiter) {
+		return promptForDoubleArray(prompt, delimiter, new DoubleList()).toArray();
 	}
 
-	// TODO: JavaDoc
-	public static int[] promptForIntArray(String prompt, String delimiter) {
-		String[] unparsedResults;
-		int[] results;
-		boolean isValidArray = false;
-		do {
-			unparsedResults = promptForArray(prompt, delimiter);
-			results = new int[unparsedResults.length];
-			try {
-				for (int i = 0; i < results.length; i++) {
-					results[i] = Integer.parseInt(unparsedResults[i]);
-				}
-				isValidArray = true;
-			} catch (NumberFormatException nfe) {
-				System.out.println("All entries must be of type int, separated by " + delimiter);
-			}
-		} while (!isValidArray);
-		return results;
+	/**
+	 * Generates a prompt that allows the user to enter an array of double values, separated by the
+	 * given delimiter. Each entry is parsed straight out of the input buffer into the given list,
+	 * so very long lines are never split into intermediate Strings. Entries that are not valid
+	 * double values are reported by position and the user is asked to re-enter only those entries.
+	 * 
+	 * @param prompt - the prompt to be displayed to the user
+	 * @param delimiter - the delimiter to separate array elements in the string
+	 * @param into - the list to fill. It is cleared first, and can be reused between prompts.
+	 * @return the given list, populated by the double values entered
+	 */
+	public static DoubleList promptForDoubleArray(String prompt, String delimiter, DoubleList into) {
+		return ConsoleSession.current().promptForDoubleArray(prompt, delimiter, into);
 	}
-	
+
 	/**
 	 * Generates a prompt that allows the user to enter an array of Strings, which are denoted as
 	 * separate by the given delimiter.
@@ -539,36 +661,120 @@ public class ConsoleUI {
 	 * @return an array populated by elements from a given string
 	 */
 	public static String[] promptForArray(String prompt, String delimiter) {
-		return promptForInput(prompt, true).split(delimiter);
+		return ConsoleSession.current().promptForArray(prompt, delimiter);
+	}
+	
+	/**
+	 * Reads every remaining line of input as a delimited record, without prompting. Lines are read
+	 * lazily as the stream is consumed, so input of any size can be processed in constant memory.
+	 * 
+	 * @param delimiter - the delimiter separating fields
+	 * @return an ordered stream of records, each an array of trimmed fields
+	 * @see RecordReader
+	 */
+	public static Stream<String[]> readRecords(String delimiter) {
+		return ConsoleSession.current().readRecords(delimiter);
+	}
+	
+	/**
+	 * Prints every row of a grid as a column-aligned table
+	 * 
+	 * @param grid - the rows to print
+	 * @see TableRenderer
+	 */
+	public static void printTable(Object[][] grid) {
+		printTable(null, Arrays.asList(grid).iterator());
+	}
+
+	/**
+	 * Prints rows as a column-aligned table, one row at a time
+	 * 
+	 * @param header - the column titles, or null for no header
+	 * @param rows - the rows to print, read one at a time
+	 * @see TableRenderer
+	 */
+	public static void printTable(Object[] header, Iterator<? extends Object[]> rows) {
+		printTable(TableRenderer.DEFAULT, header, rows);
+	}
+
+	/**
+	 * Prints rows as a column-aligned table. If the renderer splits the table into pages, the user
+	 * is asked after each page whether to show the next one.
+	 * 
+	 * @param renderer - lays out the table
+	 * @param header - the column titles, or null for no header
+	 * @param rows - the rows to print, read one at a time
+	 * @return true if every row was printed, or false if the user stopped early
+	 * @see TableRenderer
+	 */
+	public static boolean printTable(TableRenderer renderer, Object[] header,
+			Iterator<? extends Object[]> rows) {
+		return ConsoleSession.current().printTable(renderer, header, rows);
 	}
 	
 	public static String promptForIP(IPType form) {
 		return promptForIP("Enter an IP in " + String.valueOf(form).toLowerCase() + " form", form);
 	}
 
-	// TODO: JavaDoc
+	/**
+	 * Generates a prompt that expects an IPv4 address in the given form. This method loops until
+	 * valid input is given.
+	 * 
+	 * @param prompt - the prompt to be displayed to the user
+	 * @param form - the form the address must be written in
+	 * @return the address as entered by the user
+	 */
 	public static String promptForIP(String prompt, IPType form) {
-		boolean isValidIP = false;
-		String IP;
-		do {
-			IP = ConsoleUI.promptForInput(prompt).trim();
-			switch (form) {
-			case BINARY:
-				isValidIP = isValidBinaryIP(IP);
-				break;
-			case DECIMAL:
-				isValidIP = isValidDecimalIP(IP);
-				break;
-			case DOT_DECIMAL:
-				isValidIP = isValidDotDecimalIP(IP);
-				break;
-			case HEX:
-				isValidIP = isValidHexIP(IP);
-				break;
-			}
-		} while (!isValidIP);
-		
-		return IP;
+		return ConsoleSession.current().promptForIP(prompt, form);
+	}
+
+	/**
+	 * Generates a prompt that expects an IPv4 address in the given form. This method loops until
+	 * valid input is given.
+	 * 
+	 * @param form - the form the address must be written in
+	 * @return the address packed into an int
+	 * @see IPCodec
+	 */
+	public static int promptForIPAddress(IPType form) {
+		return promptForIPAddress(
+				"Enter an IP in " + String.valueOf(form).toLowerCase() + " form", form);
+	}
+
+	/**
+	 * Generates a prompt that expects an IPv4 address in the given form. The address is parsed
+	 * straight out of the input buffer. This method loops until valid input is given.
+	 * 
+	 * @param prompt - the prompt to be displayed to the user
+	 * @param form - the form the address must be written in
+	 * @return the address packed into an int
+	 * @see IPCodec
+	 */
+	public static int promptForIPAddress(String prompt, IPType form) {
+		return ConsoleSession.current().promptForIPAddress(prompt, form);
+	}
+
+	/**
+	 * Generates a prompt that expects an IPv6 address. This method loops until valid input is
+	 * given.
+	 * 
+	 * @param prompt - the prompt to be displayed to the user
+	 * @return the address as entered by the user
+	 */
+	public static String promptForIPv6(String prompt) {
+		return ConsoleSession.current().promptForIPv6(prompt);
+	}
+
+	/**
+	 * Generates a prompt that expects an IPv6 address. The address is parsed straight out of the
+	 * input buffer. This method loops until valid input is given.
+	 * 
+	 * @param prompt - the prompt to be displayed to the user
+	 * @return a two element array holding the high and low 64 bits of the address
+	 * @see IPCodec
+	 */
+	public static long[] promptForIPv6Address(String prompt) {
+		return ConsoleSession.current().promptForIPv6Address(prompt, new long[2]);
 	}
 
 	/**
@@ -614,177 +820,130 @@ public class ConsoleUI {
 	 * @return the input from the user as a String
 	 */
 	public static String promptForInput(String prompt, boolean allowEmpty, boolean appendColon) {
-		final BufferedReader in = new BufferedReader(new InputStreamReader(System.in));
-		String result;
-
-		if (prompt == null) {
-			throw new IllegalArgumentException("Prompt must not be null!");
-		}
-		
-		if (prompt.length() < 1) {
-			throw new IllegalArgumentException("Prompt must not be blank!");
-		}
-
-		do {
-			result = "";
-			System.out.print(prompt + (appendColon ? ": " : ""));
-			try {
-				result = in.readLine();
-			} catch (IOException e) {
-				e.printStackTrace();
-			}
-			result = result.trim();
-			if (!allowEmpty && result.isEmpty()) {
-				System.out.println("Input must not be empty!");
-				continue;
-			} else {
-				break;
-			}
-		} while (true);
-
-		return result;
+		return ConsoleSession.current().promptForInput(prompt, allowEmpty, appendColon);
 	}
 
-	// TODO: JavaDoc
+	/**
+	 * Renders an array as "{a, b, c}", leaving out any null elements
+	 * 
+	 * @param arr - the array to render
+	 * @return the rendered array
+	 */
 	public static String printableArray(Object[] arr) {
-		return printableArray(arr, "{}");
+		return ArrayRenderer.DEFAULT.toString(arr);
 	}
 
-	// TODO: JavaDoc
+	/**
+	 * Renders an array between the two characters of {@code container}, separated by ", ",
+	 * leaving out any null elements
+	 * 
+	 * @param arr - the array to render
+	 * @param container - the opening and closing characters, such as "{}"
+	 * @return the rendered array
+	 */
 	public static String printableArray(Object[] arr, String container) {
-		if (arr.length == 0) {
-			return container;
-		}
-
-
-		return Arrays.toString(arr).replace('[', container.charAt(0))
-				.replace(']', container.charAt(1)).replaceAll("null(, )*", "")
-				.replaceAll(", }", "}");
+		return new ArrayRenderer(container).toString(arr);
 	}
 
-	// TODO: JavaDoc
-	public static String printableDoubleArray(Object[][] arr) {
-		return printableDoubleArray(arr, "{}", "()");
+	/**
+	 * Renders an array as "{a, b, c}" without boxing its elements
+	 * 
+	 * @param arr - the array to render
+	 * @return the rendered array
+	 */
+	public static String printableArray(int[] arr) {
+		return ArrayRenderer.DEFAULT.toString(arr);
 	}
 
-	// TODO: JavaDoc
-	public static String printableDoubleArray(Object[][] arr, String container,
-			String subcontainer) {
-		String result = String.valueOf(container.charAt(0));
-
-		for (int i = 0; i < arr.length; i++) {
-			result += printableArray(arr[i], subcontainer);
-			if (i < arr.length - 1) {
-				result += ", ";
-			}
-		}
-
-		if (arr.length == 0) {
-			result = container;
-		}
-
-		return result + container.charAt(1);
-	}
-	
 	/**
-	 * Generates a prompt that expects a numeric input representing a double value. This method
-	 * loops until valid input is given.
+	 * Renders an array between the two characters of {@code container}, separated by ", ",
+	 * without boxing its elements
 	 * 
-	 * @param prompt - the prompt to be displayed to the user
-	 * @param min - the inclusive minimum boundary
-	 * @param max - the inclusive maximum boundary
-	 * @return the double value
+	 * @param arr - the array to render
+	 * @param container - the opening and closing characters, such as "{}"
+	 * @return the rendered array
 	 */
-	private static double promptForNumber(String prompt, double min, double max) {
-		String toParse;
-		double result;
-
-		if (min > max) {
-			throw new IllegalArgumentException("Min must be less than max!");
-		}
-
-		do {
-			toParse = promptForInput(prompt, false);
-			result = 0;
+	public static String printableArray(int[] arr, String container) {
+		return new ArrayRenderer(container).toString(arr);
+	}
 
-			try {
-				result = Double.parseDouble(toParse);
-			} catch (NumberFormatException nfe) {
-				System.out.println("Input must be a number!");
-				continue;
-			}
+	/**
+	 * Renders an array as "{a, b, c}" without boxing its elements
+	 * 
+	 * @param arr - the array to render
+	 * @return the rendered array
+	 */
+	public static String printableArray(long[] arr) {
+		return ArrayRenderer.DEFAULT.toString(arr);
+	}
 
-			if (result < min || result > max) {
-				NumberFormat df = new DecimalFormat("#.##");
-				System.out.println(
-						"Input must be from " + df.format(min) + " to " + df.format(max) + "!");
-				continue;
-			} else {
-				break;
-			}
-		} while (true);
+	/**
+	 * Renders an array between the two characters of {@code container}, separated by ", ",
+	 * without boxing its elements
+	 * 
+	 * @param arr - the array to render
+	 * @param container - the opening and closing characters, such as "{}"
+	 * @return the rendered array
+	 */
+	public static String printableArray(long[] arr, String container) {
+		return new ArrayRenderer(container).toString(arr);
+	}
 
-		return result;
+	/**
+	 * Renders an array as "{a, b, c}" without boxing its elements
+	 * 
+	 * @param arr - the array to render
+	 * @return the rendered array
+	 */
+	public static String printableArray(double[] arr) {
+		return ArrayRenderer.DEFAULT.toString(arr);
 	}
 
-	private static boolean isValidDecimalIP(String IP) {
-		// TODO: Make this not suck.
-		return true;
+	/**
+	 * Renders an array between the two characters of {@code container}, separated by ", ",
+	 * without boxing its elements
+	 * 
+	 * @param arr - the array to render
+	 * @param container - the opening and closing characters, such as "{}"
+	 * @return the rendered array
+	 */
+	public static String printableArray(double[] arr, String container) {
+		return new ArrayRenderer(container).toString(arr);
 	}
-	
-	// TODO: JavaDoc
-	private static boolean isValidBinaryIP(String IP) {
-		if (IP.length() != 32) {
-			System.out.println("IP must consist of exactly 32 digits long");
-			return false;
-		}
-		
-		for (char c : IP.toCharArray()) {
-			if (c != '0' && c != '1') {
-				System.out.println("IP must consist of only 1s and 0s");
-				return false;
-			}
-		}
-		
-		return true;
+
+	/**
+	 * Renders a two dimensional array as "{(a, b), (c, d)}", leaving out any null elements of the
+	 * inner arrays
+	 * 
+	 * @param arr - the array to render
+	 * @return the rendered array
+	 */
+	public static String printableDoubleArray(Object[][] arr) {
+		return printableDoubleArray(arr, "{}", "()");
 	}
-	
-	// TODO: JavaDoc
-	private static boolean isValidDotDecimalIP(String IP) {
-		String[] octets = IP.split("\\.");
-		 
-		if (octets.length != 4) {
-			System.out.println("IP must consist of 4 octets, separated by a \".\"");
-			return false;
-		}
-		for (String octet : octets) {
-			if (octet.length() > 3) {
-				System.out.println("Each octet must consist of no more than 3 numbers");
-				return false;
-			}
-		}
-		for (String octet : octets) {
-			try {
-				if (Integer.parseInt(octet) > 255 | Integer.parseInt(octet) < 0) {
-					System.out.println("Each octet must be in the range 0-255");
-					return false;
-				}
-			} catch (NumberFormatException e) {
-				System.out.println("Each octet must be a number");
-				return false;
+
+	/**
+	 * Renders a two dimensional array, wrapping the whole array in the two characters of
+	 * {@code container} and each inner array in the two characters of {@code subcontainer}
+	 * 
+	 * @param arr - the array to render
+	 * @param container - the opening and closing characters of the outer array, such as "{}"
+	 * @param subcontainer - the opening and closing characters of each inner array, such as "()"
+	 * @return the rendered array
+	 */
+	public static String printableDoubleArray(Object[][] arr, String container,
+			String subcontainer) {
+		ArrayRenderer rows = new ArrayRenderer(subcontainer);
+		StringBuilder result = new StringBuilder();
+
+		result.append(container.charAt(0));
+		for (int i = 0; i < arr.length; i++) {
+			if (i > 0) {
+				result.append(", ");
 			}
+			rows.render(arr[i], result);
 		}
-		
-		return true;
-	}
-	
-	// TODO: JavaDoc
-	private static boolean isValidHexIP(String IP) {
-		if (IP.length() != 8) {
-			System.out.println("IP must consist of exactly 8 digits");
-			return false; // TODO: Better hex IP checking
-		}
-		
-		return true;
+
+		return result.append(container.charAt(1)).toString();
 	}
 }
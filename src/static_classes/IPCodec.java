@@ -0,0 +1,471 @@
+package static_classes;
+
+import enums.IPType;
+
+/**
+ * Parses, validates and converts IP addresses in every {@link IPType} form, plus IPv6, in a single
+ * pass and without allocating. An IPv4 address is packed into the low 32 bits of a {@code long};
+ * parse failures are reported as negative error codes, which {@link #describe(long, IPType)}
+ * turns into a message for the user.
+ *
+ * @author Ryder James
+ */
+public class IPCodec {
+	/**
+	 * The address has the wrong number of characters
+	 */
+	public static final long BAD_LENGTH = -1;
+
+	/**
+	 * The address contains a character that is not allowed in its form
+	 */
+	public static final long BAD_CHARACTER = -2;
+
+	/**
+	 * The address has the wrong number of octets or groups
+	 */
+	public static final long BAD_PART_COUNT = -3;
+
+	/**
+	 * An octet or group has too many digits
+	 */
+	public static final long PART_TOO_LONG = -4;
+
+	/**
+	 * An octet, or a decimal address, is too large
+	 */
+	public static final long OUT_OF_RANGE = -5;
+
+	/**
+	 * An IPv6 address uses the "::" shorthand more than once
+	 */
+	public static final long REPEATED_SHORTHAND = -6;
+
+	/**
+	 * The dot-decimal IPv4 part at the end of an IPv6 address is not valid
+	 */
+	public static final long BAD_EMBEDDED_IPV4 = -7;
+
+	private static final long MAX_IPV4 = 0xFFFFFFFFL;
+
+	/**
+	 * Don't let anyone else instantiate this class
+	 */
+	private IPCodec() {}
+
+	/**
+	 * Parses an IPv4 address in the given form.
+	 *
+	 * @param ip - the address to parse
+	 * @param form - the form the address is written in
+	 * @return the address packed into the low 32 bits, or a negative error code
+	 */
+	public static long parse(CharSequence ip, IPType form) {
+		return parse(ip, 0, ip.length(), form);
+	}
+
+	/**
+	 * Parses an IPv4 address in the given form from part of a {@code CharSequence}.
+	 *
+	 * @param ip - the characters to parse
+	 * @param from - the inclusive index of the first character
+	 * @param to - the exclusive index of the last character
+	 * @param form - the form the address is written in
+	 * @return the address packed into the low 32 bits, or a negative error code
+	 */
+	public static long parse(CharSequence ip, int from, int to, IPType form) {
+		switch (form) {
+		case BINARY:
+			return parseRadix(ip, from, to, 1, 32);
+		case HEX:
+			return parseRadix(ip, from, to, 4, 8);
+		case DECIMAL:
+			return parseDecimal(ip, from, to);
+		case DOT_DECIMAL:
+			return parseDotDecimal(ip, from, to);
+		default:
+			throw new IllegalArgumentException("Unknown IP form " + form);
+		}
+	}
+
+	/**
+	 * @param ip - the address to check
+	 * @param form - the form the address is written in
+	 * @return true if the address is a valid IPv4 address in the given form
+	 */
+	public static boolean isValid(CharSequence ip, IPType form) {
+		return parse(ip, form) >= 0;
+	}
+
+	/**
+	 * Appends an IPv4 address in the given form.
+	 *
+	 * @param address - the address, packed into an int
+	 * @param form - the form to write the address in
+	 * @param out - where to append the address
+	 * @return out
+	 */
+	public static StringBuilder format(int address, IPType form, StringBuilder out) {
+		switch (form) {
+		case BINARY:
+			for (int shift = 31; shift >= 0; shift--) {
+				out.append((char) ('0' + ((address >>> shift) & 1)));
+			}
+			return out;
+		case HEX:
+			for (int shift = 28; shift >= 0; shift -= 4) {
+				out.append(Character.forDigit((address >>> shift) & 0xF, 16));
+			}
+			return out;
+		case DECIMAL:
+			return out.append(address & MAX_IPV4);
+		case DOT_DECIMAL:
+			return out.append(address >>> 24).append('.').append((address >>> 16) & 0xFF).append('.')
+					.append((address >>> 8) & 0xFF).append('.').append(address & 0xFF);
+		default:
+			throw new IllegalArgumentException("Unknown IP form " + form);
+		}
+	}
+
+	/**
+	 * @param address - the address, packed into an int
+	 * @param form - the form to write the address in
+	 * @return the address written in the given form
+	 */
+	public static String toString(int address, IPType form) {
+		return format(address, form, new StringBuilder(32)).toString();
+	}
+
+	/**
+	 * Converts an IPv4 address from one form to another.
+	 *
+	 * @param ip - the address to convert
+	 * @param from - the form the address is written in
+	 * @param to - the form to convert the address to
+	 * @return the address written in the new form
+	 * @throws IllegalArgumentException if the address is not valid in its form
+	 */
+	public static String convert(CharSequence ip, IPType from, IPType to) {
+		long address = parse(ip, from);
+
+		if (address < 0) {
+			throw new IllegalArgumentException(describe(address, from));
+		}
+
+		return toString((int) address, to);
+	}
+
+	/**
+	 * Parses an IPv6 address, including the "::" shorthand and a trailing dot-decimal IPv4 part.
+	 *
+	 * @param ip - the address to parse
+	 * @param into - a two element array to receive the high and low 64 bits of the address
+	 * @return 0 if the address is valid, or a negative error code
+	 */
+	public static long parseIPv6(CharSequence ip, long[] into) {
+		return parseIPv6(ip, 0, ip.length(), into);
+	}
+
+	/**
+	 * Parses an IPv6 address from part of a {@code CharSequence}, including the "::" shorthand and
+	 * a trailing dot-decimal IPv4 part.
+	 *
+	 * @param ip - the characters to parse
+	 * @param from - the inclusive index of the first character
+	 * @param to - the exclusive index of the last character
+	 * @param into - a two element array to receive the high and low 64 bits of the address
+	 * @return 0 if the address is valid, or a negative error code
+	 */
+	public static long parseIPv6(CharSequence ip, int from, int to, long[] into) {
+		long headHigh = 0, headLow = 0, tailHigh = 0, tailLow = 0;
+		int headGroups = 0, tailGroups = 0;
+		boolean compressed = false;
+		int i = from;
+
+		if (to - from < 2) {
+			return BAD_LENGTH;
+		}
+
+		if (ip.charAt(i) == ':') {
+			if (ip.charAt(i + 1) != ':') {
+				return BAD_CHARACTER;
+			}
+			compressed = true;
+			i += 2;
+		}
+
+		while (i < to) {
+			int groupStart = i;
+			int value = 0;
+
+			for (int digit; i < to && (digit = hexDigit(ip.charAt(i))) >= 0; i++) {
+				if (i - groupStart == 4) {
+					return PART_TOO_LONG;
+				}
+				value = value << 4 | digit;
+			}
+
+			int groupCount = 1;
+			if (i < to && ip.charAt(i) == '.') {
+				long ipv4 = parseDotDecimal(ip, groupStart, to);
+				if (ipv4 < 0) {
+					return BAD_EMBEDDED_IPV4;
+				}
+				value = (int) ipv4;
+				groupCount = 2;
+				i = to;
+			} else if (i == groupStart) {
+				return i < to ? BAD_CHARACTER : BAD_PART_COUNT;
+			}
+
+			if (headGroups + tailGroups + groupCount > 8) {
+				return BAD_PART_COUNT;
+			}
+
+			int bits = 16 * groupCount;
+			if (compressed) {
+				tailHigh = tailHigh << bits | tailLow >>> (64 - bits);
+				tailLow = tailLow << bits | (value & (bits == 32 ? MAX_IPV4 : 0xFFFF));
+				tailGroups += groupCount;
+			} else {
+				headHigh = headHigh << bits | headLow >>> (64 - bits);
+				headLow = headLow << bits | (value & (bits == 32 ? MAX_IPV4 : 0xFFFF));
+				headGroups += groupCount;
+			}
+
+			if (i == to) {
+				break;
+			}
+			if (ip.charAt(i) != ':') {
+				return BAD_CHARACTER;
+			}
+			if (++i < to && ip.charAt(i) == ':') {
+				if (compressed) {
+					return REPEATED_SHORTHAND;
+				}
+				compressed = true;
+				i++;
+			} else if (i == to) {
+				return BAD_PART_COUNT;
+			}
+		}
+
+		if (compressed ? headGroups + tailGroups > 7 : headGroups != 8) {
+			return BAD_PART_COUNT;
+		}
+
+		for (int shift = 8 - headGroups - tailGroups; shift > 0; shift--) {
+			headHigh = headHigh << 16 | headLow >>> 48;
+			headLow <<= 16;
+		}
+		for (int shift = tailGroups; shift > 0; shift--) {
+			headHigh = headHigh << 16 | headLow >>> 48;
+			headLow <<= 16;
+		}
+
+		into[0] = headHigh | tailHigh;
+		into[1] = headLow | tailLow;
+		return 0;
+	}
+
+	/**
+	 * Appends an IPv6 address in its canonical RFC 5952 form: lower case, without leading zeros,
+	 * and with the longest run of two or more zero groups replaced by "::". An IPv4-mapped address
+	 * ({@code ::ffff:0:0/96}) is written in the mixed form of RFC 5952 section 5, with its last 32
+	 * bits in dot-decimal, such as "::ffff:192.0.2.1".
+	 *
+	 * @param high - the high 64 bits of the address
+	 * @param low - the low 64 bits of the address
+	 * @param out - where to append the address
+	 * @return out
+	 */
+	public static StringBuilder formatIPv6(long high, long low, StringBuilder out) {
+		if (high == 0 && low >>> 32 == 0xFFFF) {
+			return format((int) low, IPType.DOT_DECIMAL, out.append("::ffff:"));
+		}
+
+		int bestStart = -1, bestLength = 1;
+
+		for (int i = 0, runStart = -1; i <= 8; i++) {
+			if (i < 8 && group(high, low, i) == 0) {
+				if (runStart < 0) {
+					runStart = i;
+				}
+			} else if (runStart >= 0) {
+				if (i - runStart > bestLength) {
+					bestStart = runStart;
+					bestLength = i - runStart;
+				}
+				runStart = -1;
+			}
+		}
+
+		for (int i = 0; i < 8; i++) {
+			if (i == bestStart) {
+				out.append("::");
+				i += bestLength - 1;
+				continue;
+			}
+			if (i > 0 && i != bestStart + bestLength) {
+				out.append(':');
+			}
+			out.append(Integer.toHexString(group(high, low, i)));
+		}
+
+		return out;
+	}
+
+	/**
+	 * @param high - the high 64 bits of the address
+	 * @param low - the low 64 bits of the address
+	 * @return the address in its canonical RFC 5952 form
+	 */
+	public static String toIPv6String(long high, long low) {
+		return formatIPv6(high, low, new StringBuilder(39)).toString();
+	}
+
+	/**
+	 * Describes a parse error in terms the user can act on.
+	 *
+	 * @param error - the error code returned by a parse method
+	 * @param form - the form the address was expected in, or null for IPv6
+	 * @return the message to show the user
+	 */
+	public static String describe(long error, IPType form) {
+		if (form == null) {
+			if (error == BAD_CHARACTER) {
+				return "Each group must consist of only hexadecimal digits, separated by \":\"";
+			} else if (error == PART_TOO_LONG) {
+				return "Each group must consist of no more than 4 hexadecimal digits";
+			} else if (error == REPEATED_SHORTHAND) {
+				return "IP must not use \"::\" more than once";
+			} else if (error == BAD_EMBEDDED_IPV4) {
+				return "The IPv4 part must consist of 4 octets in the range 0-255, separated by "
+						+ "a \".\"";
+			}
+			return "IP must consist of 8 groups of up to 4 hexadecimal digits, separated by \":\"";
+		}
+
+		switch (form) {
+		case BINARY:
+			return error == BAD_LENGTH ? "IP must consist of exactly 32 digits"
+					: "IP must consist of only 1s and 0s";
+		case HEX:
+			return error == BAD_LENGTH ? "IP must consist of exactly 8 digits"
+					: "IP must consist of only hexadecimal digits";
+		case DECIMAL:
+			return error == OUT_OF_RANGE ? "IP must be in the range 0-" + MAX_IPV4
+					: "IP must be a whole number";
+		default:
+			if (error == BAD_PART_COUNT) {
+				return "IP must consist of 4 octets, separated by a \".\"";
+			} else if (error == PART_TOO_LONG) {
+				return "Each octet must consist of no more than 3 numbers";
+			} else if (error == OUT_OF_RANGE) {
+				return "Each octet must be in the range 0-255";
+			}
+			return "Each octet must be a number";
+		}
+	}
+
+	private static int group(long high, long low, int index) {
+		return (int) ((index < 4 ? high >>> (48 - 16 * index) : low >>> (112 - 16 * index)) & 0xFFFF);
+	}
+
+	/**
+	 * @return the value of an ASCII hexadecimal digit, or -1 if the character is not one
+	 */
+	private static int hexDigit(char c) {
+		if (c >= '0' && c <= '9') {
+			return c - '0';
+		} else if (c >= 'a' && c <= 'f') {
+			return c - 'a' + 10;
+		} else if (c >= 'A' && c <= 'F') {
+			return c - 'A' + 10;
+		}
+		return -1;
+	}
+
+	/**
+	 * Parses a fixed number of digits in a power of two radix
+	 */
+	private static long parseRadix(CharSequence ip, int from, int to, int bitsPerDigit,
+			int digits) {
+		long result = 0;
+
+		if (to - from != digits) {
+			return BAD_LENGTH;
+		}
+
+		for (int i = from; i < to; i++) {
+			int digit = hexDigit(ip.charAt(i));
+			if (digit < 0 || digit >= 1 << bitsPerDigit) {
+				return BAD_CHARACTER;
+			}
+			result = result << bitsPerDigit | digit;
+		}
+
+		return result;
+	}
+
+	private static long parseDecimal(CharSequence ip, int from, int to) {
+		long result = 0;
+
+		if (to == from) {
+			return BAD_LENGTH;
+		}
+
+		for (int i = from; i < to; i++) {
+			char c = ip.charAt(i);
+			if (c < '0' || c > '9') {
+				return BAD_CHARACTER;
+			}
+			result = result * 10 + (c - '0');
+			if (result > MAX_IPV4) {
+				return OUT_OF_RANGE;
+			}
+		}
+
+		return result;
+	}
+
+	private static long parseDotDecimal(CharSequence ip, int from, int to) {
+		long result = 0;
+		int octets = 0;
+		int i = from;
+
+		while (true) {
+			int octetStart = i;
+			int octet = 0;
+
+			for (char c; i < to && (c = ip.charAt(i)) != '.'; i++) {
+				if (c < '0' || c > '9') {
+					return BAD_CHARACTER;
+				}
+				if (i - octetStart == 3) {
+					return PART_TOO_LONG;
+				}
+				octet = octet * 10 + (c - '0');
+			}
+
+			if (i == octetStart) {
+				return octets == 3 || i < to ? BAD_CHARACTER : BAD_PART_COUNT;
+			}
+			if (octet > 255) {
+				return OUT_OF_RANGE;
+			}
+			if (++octets > 4) {
+				return BAD_PART_COUNT;
+			}
+
+			result = result << 8 | octet;
+
+			if (i == to) {
+				break;
+			}
+			i++;
+		}
+
+		return octets == 4 ? result : BAD_PART_COUNT;
+	}
+}
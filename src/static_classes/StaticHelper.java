@@ -1,24 +1,136 @@
 package static_classes;
 
-import java.util.Random;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
 
+import random.AliasSampler;
+import random.RandomService;
+import random.Reservoir;
+
+/**
+ * Static random helpers. Every call uses the calling thread's own {@code ThreadLocalRandom}, so
+ * threads never contend on a shared generator. For reproducible values, use a seeded
+ * {@link RandomService} instead.
+ *
+ * @author Ryder James
+ */
 public class StaticHelper {
-	private static final Random RAND = new Random();
-	
+
 	private StaticHelper() {}
 
 	public static int randomInt(int min, int max) {
 		if (max < min) {
 			throw new IllegalArgumentException("Max must be not be less than min");
 		}
-		
-		return RAND.nextInt(max - min + 1) + min;
+
+		return nextInt(ThreadLocalRandom.current(), min, max);
 	}
 
 	public static <T extends Object> T randomElement(T[] arr) {
 		if (arr.length == 0) {
 			throw new IllegalArgumentException("Array must not be empty");
 		}
-		return arr[RAND.nextInt(arr.length)];
+		return arr[ThreadLocalRandom.current().nextInt(arr.length)];
+	}
+
+	/**
+	 * Picks an element at random, in proportion to its weight
+	 *
+	 * @param arr - the array to pick from
+	 * @param weights - a sampler built from the weight of each element of the array
+	 * @return a random element of the array
+	 */
+	public static <T extends Object> T randomElement(T[] arr, AliasSampler weights) {
+		if (weights.size() != arr.length) {
+			throw new IllegalArgumentException("There must be one weight per element");
+		}
+		return arr[weights.sample(ThreadLocalRandom.current())];
+	}
+
+	/**
+	 * Picks {@code k} elements at random in a single pass, without knowing the number of
+	 * elements in advance
+	 *
+	 * @param source - the elements to pick from, such as a {@code Deck}
+	 * @param k - the number of elements to pick
+	 * @return the picked elements in no particular order, or every element if there are
+	 *         {@code k} or fewer
+	 * @see Reservoir
+	 */
+	public static <T> List<T> sample(Iterable<? extends T> source, int k) {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		return Reservoir.sample(source.iterator(), k, random::nextDouble);
+	}
+
+	/**
+	 * Picks {@code k} elements of a stream at random in a single pass
+	 *
+	 * @param source - the elements to pick from
+	 * @param k - the number of elements to pick
+	 * @return the picked elements in no particular order, or every element if there are
+	 *         {@code k} or fewer
+	 * @see Reservoir
+	 */
+	public static <T> List<T> sample(Stream<? extends T> source, int k) {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		return Reservoir.sample(source.iterator(), k, random::nextDouble);
+	}
+
+	/**
+	 * Fills an array with random ints from min to max
+	 *
+	 * @param into - the array to fill
+	 * @param min - the lowest value, inclusive
+	 * @param max - the highest value, inclusive
+	 * @return into
+	 */
+	public static int[] randomInts(int[] into, int min, int max) {
+		if (max < min) {
+			throw new IllegalArgumentException("Max must be not be less than min");
+		}
+
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		for (int i = 0; i < into.length; i++) {
+			into[i] = nextInt(random, min, max);
+		}
+		return into;
+	}
+
+	/**
+	 * Fills an array with random longs
+	 *
+	 * @param into - the array to fill
+	 * @return into
+	 */
+	public static long[] randomLongs(long[] into) {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		for (int i = 0; i < into.length; i++) {
+			into[i] = random.nextLong();
+		}
+		return into;
+	}
+
+	/**
+	 * Fills an array with random doubles from 0 (inclusive) to 1 (exclusive)
+	 *
+	 * @param into - the array to fill
+	 * @return into
+	 */
+	public static double[] randomDoubles(double[] into) {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		for (int i = 0; i < into.length; i++) {
+			into[i] = random.nextDouble();
+		}
+		return into;
+	}
+
+	/**
+	 * @return a random int from min to max, inclusive, even when the range is wider than
+	 *         {@code Integer.MAX_VALUE}
+	 */
+	private static int nextInt(ThreadLocalRandom random, int min, int max) {
+		int range = max - min + 1;
+		return range > 0 ? min + random.nextInt(range) : (int) random.nextLong(min, max + 1L);
 	}
 }
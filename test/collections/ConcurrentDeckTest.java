@@ -0,0 +1,144 @@
+package collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import collections.DeckTest.NumberCard;
+import interfaces.Card;
+
+/**
+ * @author Ryder James
+ */
+class ConcurrentDeckTest {
+	private static final int THREADS = 8;
+	private static final int CARDS = 200_000;
+
+	@Test
+	void everyCardIsDealtExactlyOnceAcrossThreads() throws Exception {
+		Card[] cards = new Card[CARDS];
+		for (int i = 0; i < CARDS; i++) {
+			cards[i] = new NumberCard(i);
+		}
+		ConcurrentDeck deck = new ConcurrentDeck(cards);
+		ExecutorService pool = Executors.newFixedThreadPool(THREADS + 1);
+		CountDownLatch start = new CountDownLatch(1);
+		AtomicBoolean dealing = new AtomicBoolean(true);
+
+		try {
+			List<Future<List<Card>>> dealers = new ArrayList<>();
+			for (int t = 0; t < THREADS; t++) {
+				int seed = t;
+				dealers.add(pool.submit(() -> {
+					start.await();
+					return deal(deck, seed);
+				}));
+			}
+			Future<Integer> watcher = pool.submit(() -> {
+				start.await();
+				return watchSnapshots(deck, cards, dealing);
+			});
+
+			start.countDown();
+			int[] dealt = new int[CARDS];
+			for (Future<List<Card>> dealer : dealers) {
+				for (Card card : dealer.get(30, TimeUnit.SECONDS)) {
+					dealt[((NumberCard) card).my_value]++;
+				}
+			}
+			dealing.set(false);
+			assertTrue(watcher.get(30, TimeUnit.SECONDS) > 0);
+
+			for (int i = 0; i < CARDS; i++) {
+				assertEquals(1, dealt[i], "card " + i + " was dealt " + dealt[i] + " times");
+			}
+			assertTrue(deck.isEmpty());
+			assertNull(deck.draw());
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	@Test
+	void drawOfMoreThanIsLeftTakesNothing() {
+		ConcurrentDeck deck = new ConcurrentDeck(new NumberCard(1), new NumberCard(2));
+		Card[] into = new Card[5];
+
+		assertThrows(IllegalArgumentException.class, () -> deck.draw(3));
+		assertEquals(2, deck.size());
+		assertEquals(2, deck.draw(into, 5));
+		assertEquals(new NumberCard(2), into[0]);
+		assertEquals(0, deck.draw(into, 5));
+	}
+
+	/**
+	 * Draws until the deck is empty, switching between the three ways of drawing
+	 *
+	 * @return every card this thread drew
+	 */
+	private static List<Card> deal(ConcurrentDeck deck, int seed) {
+		List<Card> drawn = new ArrayList<>();
+		Card[] hand = new Card[4];
+
+		for (int turn = seed; ; turn++) {
+			switch (turn % 3) {
+				case 0:
+					Card card = deck.draw();
+					if (card == null) {
+						return drawn;
+					}
+					drawn.add(card);
+					break;
+				case 1:
+					int count = deck.draw(hand, 1 + turn % hand.length);
+					for (int i = 0; i < count; i++) {
+						drawn.add(hand[i]);
+					}
+					break;
+				default:
+					try {
+						deck.draw(3).forEach(drawn::add);
+					} catch (IllegalArgumentException e) {
+						// Fewer than 3 left; the other ways of drawing finish the deck
+					}
+					break;
+			}
+		}
+	}
+
+	/**
+	 * Takes snapshots while the dealers draw, checking each is an exact prefix of the original
+	 * cards and no longer than the one before
+	 *
+	 * @return the number of snapshots taken
+	 */
+	private static int watchSnapshots(ConcurrentDeck deck, Card[] cards, AtomicBoolean dealing) {
+		int snapshots = 0;
+		int previous = cards.length;
+
+		do {
+			Card[] snapshot = deck.snapshot();
+			assertTrue(snapshot.length <= previous, "snapshot grew to " + snapshot.length);
+			for (int i = 0; i < snapshot.length; i++) {
+				assertSame(cards[i], snapshot[i], "snapshot differs at " + i);
+			}
+			previous = snapshot.length;
+			snapshots++;
+		} while (dealing.get());
+
+		return snapshots;
+	}
+}
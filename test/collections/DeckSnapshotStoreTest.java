@@ -0,0 +1,133 @@
+package collections;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import collections.DeckTest.NumberCard;
+import interfaces.CardCodec;
+
+/**
+ * @author Ryder James
+ */
+class DeckSnapshotStoreTest {
+	private static final CardCodec<NumberCard> CODEC = new CardCodec<NumberCard>() {
+		@Override
+		public int encode(NumberCard card) {
+			return card.my_value;
+		}
+
+		@Override
+		public NumberCard decode(int code) {
+			return new NumberCard(code);
+		}
+	};
+
+	@TempDir
+	Path my_directory;
+
+	@Test
+	void intDecksRoundTrip() throws IOException {
+		Path file = my_directory.resolve("decks.snap");
+		IntDeck first = new IntDeck(4, false);
+		first.add(3, 1, 4, 1, 5);
+		IntDeck empty = new IntDeck();
+		IntDeck last = new IntDeck(2, true);
+		last.add(9, 2);
+
+		DeckSnapshotStore.write(file, Arrays.asList(first, empty, last));
+
+		try (DeckSnapshotStore store = new DeckSnapshotStore(file)) {
+			assertEquals(3, store.count());
+			assertArrayEquals(first.toArray(), store.restore(0, false).toArray());
+			assertEquals(0, store.size(1));
+			assertArrayEquals(last.toArray(), store.restore(2, true).toArray());
+			assertThrows(IndexOutOfBoundsException.class, () -> store.codes(3));
+		}
+	}
+
+	@Test
+	void decksAreEncodedStraightIntoTheFile() throws IOException {
+		Path file = my_directory.resolve("cards.snap");
+		List<Deck> decks = Arrays.asList(deck(10, 20, 30), deck(), deck(7));
+
+		DeckSnapshotStore.write(file, decks, CODEC);
+
+		try (DeckSnapshotStore store = new DeckSnapshotStore(file)) {
+			assertEquals(3, store.count());
+			for (int i = 0; i < decks.size(); i++) {
+				assertEquals(cards(decks.get(i)), cards(store.restore(i, CODEC)));
+			}
+		}
+	}
+
+	@Test
+	void truncatedFileIsRejectedWhenOpened() throws IOException {
+		Path file = my_directory.resolve("truncated.snap");
+		DeckSnapshotStore.write(file, Arrays.asList(deck(1, 2, 3), deck(4, 5, 6)), CODEC);
+
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+			channel.truncate(channel.size() - Integer.BYTES);
+		}
+
+		assertThrows(IOException.class, () -> new DeckSnapshotStore(file));
+	}
+
+	@Test
+	void decreasingOffsetsAreRejectedWhenOpened() throws IOException {
+		Path file = my_directory.resolve("corrupt.snap");
+		DeckSnapshotStore.write(file, Arrays.asList(deck(1, 2, 3), deck(4, 5, 6)), CODEC);
+
+		// The second deck's offset, pointed back before the first deck's
+		overwrite(file, 16 + Long.BYTES, ByteBuffer.allocate(Long.BYTES)
+				.order(ByteOrder.LITTLE_ENDIAN).putLong(0, -1));
+
+		assertThrows(IOException.class, () -> new DeckSnapshotStore(file));
+	}
+
+	@Test
+	void wrongMagicNumberIsRejected() throws IOException {
+		Path file = my_directory.resolve("other.snap");
+		DeckSnapshotStore.write(file, Arrays.asList(deck(1, 2, 3)), CODEC);
+
+		overwrite(file, 0, ByteBuffer.wrap("NOPE".getBytes("US-ASCII")));
+
+		assertThrows(IOException.class, () -> new DeckSnapshotStore(file));
+		Files.write(file, new byte[4]);
+		assertThrows(IOException.class, () -> new DeckSnapshotStore(file));
+	}
+
+	private static void overwrite(Path file, long position, ByteBuffer bytes) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+			channel.write(bytes, position);
+		}
+	}
+
+	private static Deck deck(int... values) {
+		Deck deck = new Deck();
+		for (int value : values) {
+			deck.add(new NumberCard(value));
+		}
+		return deck;
+	}
+
+	private static List<Object> cards(Deck deck) {
+		List<Object> cards = new ArrayList<>();
+		deck.forEach(cards::add);
+		return cards;
+	}
+}
@@ -0,0 +1,163 @@
+package collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import interfaces.Card;
+
+/**
+ * Checks that shuffles are unbiased. Each chi-square limit is the 99.9th percentile of the
+ * distribution for the test's degrees of freedom, and every generator is seeded, so the tests
+ * either always pass or always fail.
+ *
+ * @author Ryder James
+ */
+class DeckTest {
+	/**
+	 * 99.9th percentile of the chi-square distribution with 23 degrees of freedom
+	 */
+	private static final double CHI_SQUARE_23 = 49.728;
+
+	/**
+	 * 99.9th percentile of the chi-square distribution with 15 degrees of freedom
+	 */
+	private static final double CHI_SQUARE_15 = 37.697;
+
+	@Test
+	void shuffleMakesEveryOrderEquallyLikely() {
+		SplittableRandom random = new SplittableRandom(4);
+		long[] orders = new long[256];
+		int trials = 240_000;
+
+		// Every ordering of 4 cards should be equally likely: 24 cells, 23 degrees of freedom
+		for (int t = 0; t < trials; t++) {
+			Deck deck = deck(4);
+			deck.shuffle(random);
+			int order = 0;
+			for (Card card : deck) {
+				order = order * 4 + ((NumberCard) card).my_value;
+			}
+			orders[order]++;
+		}
+
+		double statistic = chiSquare(orders, trials / 24.0);
+		assertTrue(statistic <= CHI_SQUARE_23, "chi-square " + statistic);
+	}
+
+	@Test
+	void parallelShufflePlacesCardsUniformly() {
+		SplittableRandom random = new SplittableRandom(5);
+		int size = 1 << 18;
+		int tracked = 1024;
+		int trials = 20;
+		long[] positions = new long[16];
+		Deck deck = deck(size);
+
+		// Where the lowest cards land: 16 cells, 15 degrees of freedom
+		for (int t = 0; t < trials; t++) {
+			deck.parallelShuffle(random.nextLong());
+			int position = 0;
+			for (Card card : deck) {
+				if (((NumberCard) card).my_value < tracked) {
+					positions[position * positions.length / size]++;
+				}
+				position++;
+			}
+		}
+
+		double statistic = chiSquare(positions, trials * tracked / (double) positions.length);
+		assertTrue(statistic <= CHI_SQUARE_15, "chi-square " + statistic);
+	}
+
+	@Test
+	void parallelShuffleKeepsEveryCard() {
+		int size = 1 << 18;
+		Deck deck = deck(size);
+		boolean[] seen = new boolean[size];
+
+		deck.parallelShuffle(6);
+		for (Card card : deck) {
+			int value = ((NumberCard) card).my_value;
+			assertTrue(!seen[value], "card " + value + " dealt twice");
+			seen[value] = true;
+		}
+		assertEquals(size, deck.size());
+	}
+
+	@Test
+	void sameSeedGivesSameOrder() {
+		Deck first = deck(52);
+		Deck second = deck(52);
+		Deck bigFirst = deck(1 << 18);
+		Deck bigSecond = deck(1 << 18);
+
+		first.shuffle(7);
+		second.shuffle(7);
+		bigFirst.parallelShuffle(7);
+		bigSecond.parallelShuffle(7);
+
+		assertEquals(values(first), values(second));
+		assertEquals(values(bigFirst), values(bigSecond));
+	}
+
+	/**
+	 * @return the chi-square statistic of the non-empty cells against the same expected count
+	 */
+	static double chiSquare(long[] observed, double expected) {
+		double statistic = 0;
+		for (long count : observed) {
+			if (count > 0) {
+				statistic += (count - expected) * (count - expected) / expected;
+			}
+		}
+		return statistic;
+	}
+
+	private static Deck deck(int size) {
+		Deck deck = new Deck();
+		for (int i = 0; i < size; i++) {
+			deck.add(new NumberCard(i));
+		}
+		return deck;
+	}
+
+	private static List<Integer> values(Deck deck) {
+		List<Integer> values = new ArrayList<>(deck.size());
+		for (Card card : deck) {
+			values.add(((NumberCard) card).my_value);
+		}
+		return values;
+	}
+
+	/**
+	 * A {@code Card} that is just a number
+	 */
+	static final class NumberCard implements Card {
+		final int my_value;
+
+		NumberCard(int value) {
+			my_value = value;
+		}
+
+		@Override
+		public int compareTo(Card other) {
+			return Integer.compare(my_value, ((NumberCard) other).my_value);
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			return other instanceof NumberCard && ((NumberCard) other).my_value == my_value;
+		}
+
+		@Override
+		public int hashCode() {
+			return my_value;
+		}
+	}
+}
@@ -0,0 +1,62 @@
+package collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import enums.IPType;
+
+/**
+ * @author Ryder James
+ */
+class IPRangeSetTest {
+	@Test
+	void rangeMayHaveSpacesAroundTheDash() {
+		IPRangeSet set = new IPRangeSet();
+
+		set.add("10.0.0.1 - 10.0.0.9", IPType.DOT_DECIMAL);
+
+		assertEquals("[10.0.0.1-10.0.0.9]", set.toString());
+	}
+
+	@Test
+	void blockMayHaveSpacesAroundTheSlash() {
+		IPRangeSet set = new IPRangeSet();
+
+		set.add(" 192.168.0.0 / 16 ", IPType.DOT_DECIMAL);
+
+		assertTrue(set.contains("192.168.255.255", IPType.DOT_DECIMAL));
+		assertFalse(set.contains("192.169.0.0", IPType.DOT_DECIMAL));
+	}
+
+	@Test
+	void spacesInsideAnAddressAreStillRejected() {
+		IPRangeSet set = new IPRangeSet();
+
+		assertThrows(IllegalArgumentException.class,
+				() -> set.add("10.0. 0.1-10.0.0.9", IPType.DOT_DECIMAL));
+		assertThrows(IllegalArgumentException.class,
+				() -> set.add("10.0.0.1 - ", IPType.DOT_DECIMAL));
+	}
+
+	@Test
+	void readMergesRangesWrittenEitherWay(@TempDir Path directory) throws IOException {
+		Path file = directory.resolve("ranges.txt");
+		Files.write(file, Arrays.asList("# allowed", "10.0.0.1 - 10.0.0.9", "",
+				"10.0.0.10-10.0.0.20", "172.16.0.0 /12"), StandardCharsets.UTF_8);
+
+		IPRangeSet set = IPRangeSet.read(file, IPType.DOT_DECIMAL);
+
+		assertEquals("[10.0.0.1-10.0.0.20, 172.16.0.0-172.31.255.255]", set.toString());
+	}
+}
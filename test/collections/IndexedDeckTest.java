@@ -0,0 +1,178 @@
+package collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import collections.DeckTest.NumberCard;
+import interfaces.Card;
+
+/**
+ * Drives an {@code IndexedDeck} and a plain {@code Deck} through the same operations on shoes
+ * of several decks, so most cards have equal copies, and checks they always agree
+ *
+ * @author Ryder James
+ */
+class IndexedDeckTest {
+	private static final int RANKS = 13;
+	private static final int DECKS = 6;
+
+	@Test
+	void agreesWithDeckThroughRandomOperations() {
+		SplittableRandom random = new SplittableRandom(17);
+
+		for (int round = 0; round < 20; round++) {
+			Deck deck = new Deck();
+			IndexedDeck indexed = new IndexedDeck();
+			Card[] shoe = shoe();
+			deck.add(shoe);
+			indexed.add(shoe);
+			assertSameCards(deck, indexed, "new shoe");
+
+			for (int step = 0; step < 400; step++) {
+				String operation = apply(random, deck, indexed);
+				assertSameCards(deck, indexed, "round " + round + ", step " + step + ": "
+						+ operation);
+			}
+		}
+	}
+
+	@Test
+	void removingFromTheMiddleCompactsWithoutLosingOrder() {
+		Card[] shoe = shoe();
+		Deck deck = new Deck(shoe);
+		IndexedDeck indexed = new IndexedDeck(shoe);
+
+		// Empty most of the slots below the top, so the deck has to compact at least once
+		for (int value = 0; value < RANKS - 1; value++) {
+			for (int copy = 0; copy < DECKS - 1; copy++) {
+				NumberCard card = new NumberCard(value);
+				deck.remove(card);
+				assertTrue(indexed.remove(card));
+				assertSameCards(deck, indexed, "removed " + value);
+			}
+		}
+		assertFalse(indexed.remove(new NumberCard(RANKS)));
+
+		while (!deck.isEmpty()) {
+			assertSame(deck.draw(), indexed.draw());
+			assertSameCards(deck, indexed, "drew");
+		}
+		assertThrows(IllegalStateException.class, indexed::draw);
+	}
+
+	@Test
+	void drawingABlockPutsTheOldTopCardFirst() {
+		Card[] shoe = shoe();
+		Deck deck = new Deck(shoe);
+		IndexedDeck indexed = new IndexedDeck(shoe);
+
+		Deck drawn = deck.draw(RANKS + 2);
+		IndexedDeck indexedDrawn = indexed.draw(RANKS + 2);
+
+		assertSame(shoe[shoe.length - 1], drawn.iterator().next());
+		assertSameCards(drawn, indexedDrawn, "drawn block");
+		assertSameCards(deck, indexed, "rest of the shoe");
+		assertThrows(IllegalArgumentException.class, () -> deck.draw(0));
+		assertThrows(IllegalArgumentException.class, () -> indexed.draw(shoe.length));
+	}
+
+	/**
+	 * Applies one random operation to both decks
+	 *
+	 * @return a description of the operation, for failure messages
+	 */
+	private static String apply(SplittableRandom random, Deck deck, IndexedDeck indexed) {
+		switch (random.nextInt(6)) {
+			case 0:
+			case 1:
+				NumberCard added = new NumberCard(random.nextInt(RANKS));
+				deck.add(added);
+				indexed.add(added);
+				return "add " + added.my_value;
+			case 2:
+			case 3:
+				// One more value than the shoe holds, so some removals find nothing
+				NumberCard removed = new NumberCard(random.nextInt(RANKS + 1));
+				boolean present = count(deck, removed) > 0;
+				deck.remove(removed);
+				assertEquals(present, indexed.remove(removed));
+				return "remove " + removed.my_value;
+			case 4:
+				if (deck.isEmpty()) {
+					return "nothing to draw";
+				}
+				int number = 1 + random.nextInt(Math.min(deck.size(), 5));
+				if (number == 1) {
+					assertSame(deck.draw(), indexed.draw());
+				} else {
+					assertSameCards(deck.draw(number), indexed.draw(number), "drawn block");
+				}
+				return "draw " + number;
+			default:
+				long seed = random.nextLong();
+				deck.shuffle(seed);
+				indexed.shuffle(seed);
+				return "shuffle";
+		}
+	}
+
+	/**
+	 * Checks both decks hold the same card objects in the same order, and that the index
+	 * agrees with the cards actually in the deck
+	 */
+	private static void assertSameCards(Deck deck, IndexedDeck indexed, String message) {
+		List<Card> expected = cards(deck);
+		List<Card> actual = cards(indexed);
+
+		assertEquals(expected.size(), actual.size(), message);
+		assertEquals(deck.size(), indexed.size(), message);
+		assertEquals(deck.isEmpty(), indexed.isEmpty(), message);
+		for (int i = 0; i < expected.size(); i++) {
+			assertSame(expected.get(i), actual.get(i), message + ", at " + i);
+		}
+		for (int value = 0; value <= RANKS; value++) {
+			NumberCard card = new NumberCard(value);
+			int count = count(deck, card);
+			assertEquals(count, indexed.count(card), message + ", count of " + value);
+			assertEquals(count > 0, indexed.contains(card), message + ", contains " + value);
+		}
+	}
+
+	/**
+	 * @return {@code DECKS} copies of each of {@code RANKS} values, every card its own object
+	 */
+	private static Card[] shoe() {
+		Card[] shoe = new Card[RANKS * DECKS];
+		for (int i = 0; i < shoe.length; i++) {
+			shoe[i] = new NumberCard(i % RANKS);
+		}
+		return shoe;
+	}
+
+	private static int count(Deck deck, Card card) {
+		int count = 0;
+		for (Card each : deck) {
+			if (each.equals(card)) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	private static List<Card> cards(Iterable<Card> deck) {
+		List<Card> cards = new ArrayList<>();
+		for (Card card : deck) {
+			cards.add(card);
+		}
+		return cards;
+	}
+}
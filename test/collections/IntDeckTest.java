@@ -0,0 +1,108 @@
+package collections;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.IntBuffer;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * @author Ryder James
+ */
+class IntDeckTest {
+	/**
+	 * 99.9th percentile of the chi-square distribution with 23 degrees of freedom
+	 */
+	private static final double CHI_SQUARE_23 = 49.728;
+
+	@Test
+	void shuffleMakesEveryOrderEquallyLikely() {
+		SplittableRandom random = new SplittableRandom(4);
+		long[] orders = new long[256];
+		int trials = 240_000;
+
+		for (int t = 0; t < trials; t++) {
+			IntDeck codes = new IntDeck(4, false);
+			codes.add(0, 1, 2, 3);
+			codes.shuffle(random);
+			int[] dealt = codes.toArray();
+			orders[((dealt[0] * 4 + dealt[1]) * 4 + dealt[2]) * 4 + dealt[3]]++;
+		}
+
+		double statistic = DeckTest.chiSquare(orders, trials / 24.0);
+		assertTrue(statistic <= CHI_SQUARE_23, "chi-square " + statistic);
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { false, true })
+	void addGrowsPastTheInitialCapacity(boolean direct) {
+		IntDeck deck = new IntDeck(2, direct);
+
+		deck.add(1);
+		deck.add(2, 3, 4);
+		deck.add(IntBuffer.wrap(new int[] { 5, 6 }));
+
+		assertEquals(direct, deck.isDirect());
+		assertEquals(6, deck.size());
+		assertArrayEquals(new int[] { 1, 2, 3, 4, 5, 6 }, deck.toArray());
+		assertEquals(6, deck.get(5));
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { false, true })
+	void drawTakesFromTheTop(boolean direct) {
+		IntDeck deck = new IntDeck(4, direct);
+		deck.add(1, 2, 3, 4, 5);
+
+		assertEquals(5, deck.draw());
+		IntDeck hand = deck.draw(3);
+
+		assertArrayEquals(new int[] { 4, 3, 2 }, hand.toArray());
+		assertFalse(hand.isDirect());
+		assertArrayEquals(new int[] { 1 }, deck.toArray());
+		assertThrows(IllegalArgumentException.class, () -> deck.draw(2));
+		assertEquals(1, deck.draw());
+		assertTrue(deck.isEmpty());
+		assertThrows(IllegalStateException.class, deck::draw);
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { false, true })
+	void removeTakesOutTheFirstMatchOnly(boolean direct) {
+		IntDeck deck = new IntDeck(8, direct);
+		deck.add(7, 1, 7, 2);
+
+		assertTrue(deck.remove(7));
+		assertArrayEquals(new int[] { 1, 7, 2 }, deck.toArray());
+		assertTrue(deck.remove(2));
+		assertFalse(deck.remove(9));
+		assertArrayEquals(new int[] { 1, 7 }, deck.toArray());
+
+		deck.add(3);
+		assertArrayEquals(new int[] { 1, 7, 3 }, deck.toArray());
+		assertThrows(IndexOutOfBoundsException.class, () -> deck.get(3));
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { false, true })
+	void sameSeedShufflesBothStoragesAlike(boolean direct) {
+		IntDeck heap = new IntDeck(52, false);
+		IntDeck other = new IntDeck(52, direct);
+		for (int code = 0; code < 52; code++) {
+			heap.add(code);
+			other.add(code);
+		}
+
+		heap.shuffle(99);
+		other.shuffle(99);
+
+		assertArrayEquals(heap.toArray(), other.toArray());
+	}
+}
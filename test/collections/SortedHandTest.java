@@ -0,0 +1,153 @@
+package collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import collections.DeckTest.NumberCard;
+import interfaces.Card;
+
+/**
+ * Checks deck sorting, top-k selection and {@code SortedHand} against a sorted list, on shoes
+ * where most cards have equal copies
+ *
+ * @author Ryder James
+ */
+class SortedHandTest {
+	private static final int RANKS = 13;
+	private static final int DECKS = 6;
+
+	@Test
+	void sortAndParallelSortAgreeWithAStableSort() {
+		Deck deck = shuffledShoe(21);
+		Deck parallel = new Deck();
+		for (Card card : deck) {
+			parallel.add(card);
+		}
+		List<Card> expected = cards(deck);
+		Collections.sort(expected);
+
+		deck.sort();
+		parallel.parallelSort();
+
+		assertSameOrder(expected, cards(deck));
+		assertSameOrder(expected, cards(parallel));
+		assertSame(expected.get(expected.size() - 1), deck.draw());
+	}
+
+	@Test
+	void highestAndLowestMatchTheEndsOfTheSortedDeck() {
+		Deck deck = shuffledShoe(22);
+		List<Card> sorted = cards(deck);
+		Collections.sort(sorted);
+
+		assertEquals(sorted.get(0), deck.min());
+		assertEquals(sorted.get(sorted.size() - 1), deck.max());
+		for (int k : new int[] { 0, 1, DECKS - 1, DECKS, DECKS + 1, sorted.size() }) {
+			List<Card> lowest = sorted.subList(0, k);
+			List<Card> highest = new ArrayList<>(sorted.subList(sorted.size() - k, sorted.size()));
+			Collections.reverse(highest);
+
+			assertEquals(lowest, deck.lowest(k), "lowest " + k);
+			assertEquals(highest, deck.highest(k), "highest " + k);
+		}
+		assertThrows(IllegalArgumentException.class, () -> deck.highest(sorted.size() + 1));
+		assertThrows(IllegalArgumentException.class, () -> deck.lowest(-1));
+	}
+
+	@Test
+	void handKeepsEqualCardsInTheOrderTheyWereAdded() {
+		SplittableRandom random = new SplittableRandom(23);
+		Deck deck = shuffledShoe(24);
+		List<Card> expected = cards(deck);
+		Collections.reverse(expected);
+		Collections.sort(expected);
+		SortedHand hand = new SortedHand();
+
+		hand.drawFrom(deck, expected.size());
+		assertTrue(deck.isEmpty());
+		assertSameCards(expected, hand);
+
+		while (!expected.isEmpty()) {
+			switch (random.nextInt(3)) {
+				case 0:
+					assertSame(expected.remove(0), hand.removeLowest());
+					break;
+				case 1:
+					// Of the equal highest cards, the first one added goes first
+					assertSame(expected.remove(firstHighest(expected)), hand.removeHighest());
+					break;
+				default:
+					NumberCard card = new NumberCard(random.nextInt(RANKS + 1));
+					int first = expected.indexOf(card);
+					assertEquals(first >= 0, hand.remove(card));
+					if (first >= 0) {
+						expected.remove(first);
+					}
+					break;
+			}
+			assertSameCards(expected, hand);
+		}
+		assertThrows(IllegalArgumentException.class, () -> hand.drawFrom(new Deck(), 1));
+	}
+
+	/**
+	 * Checks the hand holds exactly the given sorted cards, and that its lookups agree
+	 */
+	private static void assertSameCards(List<Card> expected, SortedHand hand) {
+		assertSameOrder(expected, cards(hand));
+		assertEquals(expected.size(), hand.size());
+		assertEquals(expected.isEmpty(), hand.isEmpty());
+		if (!expected.isEmpty()) {
+			assertSame(expected.get(0), hand.lowest());
+			assertSame(expected.get(firstHighest(expected)), hand.highest());
+		}
+		for (int value = 0; value <= RANKS; value++) {
+			NumberCard card = new NumberCard(value);
+			int count = Collections.frequency(expected, card);
+			assertEquals(count, hand.count(card), "count of " + value);
+			assertEquals(count > 0, hand.contains(card), "contains " + value);
+		}
+	}
+
+	/**
+	 * @return the index of the first of the cards equal to the highest
+	 */
+	private static int firstHighest(List<Card> sorted) {
+		return sorted.indexOf(sorted.get(sorted.size() - 1));
+	}
+
+	private static void assertSameOrder(List<Card> expected, List<Card> actual) {
+		assertEquals(expected.size(), actual.size());
+		for (int i = 0; i < expected.size(); i++) {
+			assertSame(expected.get(i), actual.get(i), "at " + i);
+		}
+	}
+
+	private static Deck shuffledShoe(long seed) {
+		Deck deck = new Deck();
+		for (int i = 0; i < RANKS * DECKS; i++) {
+			deck.add(new NumberCard(i % RANKS));
+		}
+		deck.shuffle(seed);
+		assertFalse(deck.isEmpty());
+		return deck;
+	}
+
+	private static List<Card> cards(Iterable<Card> cards) {
+		List<Card> list = new ArrayList<>();
+		for (Card card : cards) {
+			list.add(card);
+		}
+		return list;
+	}
+}
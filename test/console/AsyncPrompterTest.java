@@ -0,0 +1,169 @@
+package console;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.Reader;
+import java.io.StringWriter;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Ryder James
+ */
+class AsyncPrompterTest {
+	private final TypedInput my_keyboard = new TypedInput();
+	private final StringWriter my_screen = new StringWriter();
+	private final ConsoleSession my_session = new ConsoleSession(new LineSource(my_keyboard),
+			new ConsoleOutput(my_screen));
+
+	@AfterEach
+	void tearDown() {
+		my_session.close();
+	}
+
+	@Test
+	void timedOutPromptDoesNotTakeTheNextLine() throws Exception {
+		CompletableFuture<Integer> stale = my_session.promptAsync(
+				() -> my_session.promptForInt("Number", 0, 100), 100, TimeUnit.MILLISECONDS, -1);
+
+		assertEquals(-1, stale.get(5, TimeUnit.SECONDS));
+
+		CompletableFuture<Boolean> next = my_session.promptAsync(my_session::promptForBool);
+		my_keyboard.type("yes");
+
+		assertTrue(next.get(5, TimeUnit.SECONDS));
+		assertFalse(my_screen.toString().contains("must"), my_screen.toString());
+	}
+
+	@Test
+	void cancelledPromptDoesNotTakeTheNextLine() throws Exception {
+		CompletableFuture<Integer> cancelled = my_session.promptAsync(
+				() -> my_session.promptForInt("Number", 0, 100));
+
+		// Let it start waiting for input before giving up on it
+		Thread.sleep(100);
+		cancelled.cancel(false);
+
+		CompletableFuture<String> next = my_session.promptAsync(
+				() -> my_session.promptForInput("Name"));
+		my_keyboard.type("Ryder");
+
+		assertEquals("Ryder", next.get(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	void promptsTakeLinesInOrder() throws Exception {
+		my_keyboard.type("12");
+		my_keyboard.type("no");
+
+		CompletableFuture<Integer> first = my_session.promptAsync(
+				() -> my_session.promptForInt("Number", 0, 100), 5, TimeUnit.SECONDS, -1);
+		CompletableFuture<Boolean> second = my_session.promptAsync(my_session::promptForBool);
+
+		assertEquals(12, first.get(5, TimeUnit.SECONDS));
+		assertFalse(second.get(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	void timeoutKeepsGoingThroughRejectedAnswers() throws Exception {
+		CompletableFuture<Integer> number = my_session.promptAsync(
+				() -> my_session.promptForInt("Number", 0, 100), 300, TimeUnit.MILLISECONDS, -1);
+		my_keyboard.type("lots");
+
+		assertEquals(-1, number.get(5, TimeUnit.SECONDS));
+
+		CompletableFuture<Integer> next = my_session.promptAsync(
+				() -> my_session.promptForInt("Number", 0, 100));
+		my_keyboard.type("7");
+
+		assertEquals(7, next.get(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	void closedSessionPromptsSynchronouslyAgain() throws Exception {
+		CompletableFuture<Integer> number = my_session.promptAsync(
+				() -> my_session.promptForInt("Number", 0, 100));
+		my_keyboard.type("4");
+		assertEquals(4, number.get(5, TimeUnit.SECONDS));
+
+		my_session.close();
+		my_keyboard.type("yes");
+		my_keyboard.type("Ryder");
+
+		assertTrue(my_session.promptForBool());
+		assertEquals("Ryder", my_session.promptForInput("Name"));
+	}
+
+	@Test
+	void lineReadForAnAbandonedPromptIsHandedBack() throws Exception {
+		CompletableFuture<Integer> waiting = my_session.promptAsync(
+				() -> my_session.promptForInt("Number", 0, 100));
+		// Let it ask the reader thread for a line before giving up on it
+		Thread.sleep(100);
+
+		my_session.close();
+		assertTrue(waiting.isCancelled());
+		my_keyboard.type("12");
+		my_keyboard.type("no");
+
+		assertEquals(12, my_session.promptForInt("Number", 0, 100));
+		CompletableFuture<Boolean> again = my_session.promptAsync(my_session::promptForBool);
+		assertFalse(again.get(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	void shutdownCancelsOutstandingPrompts() throws Exception {
+		AsyncPrompter prompter = new AsyncPrompter("test", new LineSource(my_keyboard));
+		ConsoleSession session = new ConsoleSession(prompter.input(),
+				new ConsoleOutput(my_screen));
+		CompletableFuture<Integer> waiting = prompter.submit(
+				() -> session.promptForInt("Number", 0, 100));
+		CompletableFuture<Integer> queued = prompter.submit(
+				() -> session.promptForInt("Number", 0, 100));
+
+		prompter.shutdown();
+
+		assertTrue(waiting.isCancelled());
+		assertTrue(queued.isCancelled());
+	}
+
+	/**
+	 * Input that arrives only when a line is typed
+	 */
+	private static final class TypedInput extends Reader {
+		private final LinkedBlockingQueue<String> my_lines = new LinkedBlockingQueue<>();
+		private String my_line = "";
+		private int my_position;
+
+		void type(String line) {
+			my_lines.add(line + "\n");
+		}
+
+		@Override
+		public int read(char[] buffer, int offset, int length) {
+			if (my_position == my_line.length()) {
+				try {
+					my_line = my_lines.take();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return -1;
+				}
+				my_position = 0;
+			}
+
+			int read = Math.min(length, my_line.length() - my_position);
+			my_line.getChars(my_position, my_position + read, buffer, offset);
+			my_position += read;
+			return read;
+		}
+
+		@Override
+		public void close() {}
+	}
+}
@@ -0,0 +1,125 @@
+package console;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static_classes.ConsoleUI;
+
+/**
+ * Drives a {@link ConsoleServer} over loopback with many clients connected at once
+ *
+ * @author Ryder James
+ */
+class ConsoleServerTest {
+	private static final int CLIENTS = 300;
+
+	@Test
+	void servesManyConcurrentSessions() throws Exception {
+		try (ConsoleServer server = new ConsoleServer(0, session -> {
+			// Unchanged ConsoleUI code, talking to whichever client this session belongs to
+			int number = ConsoleUI.promptAsync(() -> ConsoleUI.promptForInt("Number", 0, 1000),
+					30, TimeUnit.SECONDS, -1).join();
+			boolean sure = ConsoleUI.promptForBool();
+			session.output().println("Got " + number + " " + sure);
+		})) {
+			SocketChannel[] clients = new SocketChannel[CLIENTS];
+			for (int i = 0; i < CLIENTS; i++) {
+				clients[i] = SocketChannel.open(server.address());
+			}
+			awaitSessionCount(server, CLIENTS);
+
+			// Every session is waiting at once; answer them one by one
+			for (int i = 0; i < CLIENTS; i++) {
+				send(clients[i], (i % 1000) + "\n" + (i % 2 == 0 ? "yes" : "no") + "\n");
+			}
+			for (int i = 0; i < CLIENTS; i++) {
+				String transcript = receiveAll(clients[i]);
+				assertTrue(transcript.contains("Got " + (i % 1000) + " " + (i % 2 == 0)),
+						transcript);
+				clients[i].close();
+			}
+
+			awaitSessionCount(server, 0);
+			assertTrue(server.isOpen());
+			assertNull(server.failure());
+		}
+	}
+
+	@Test
+	void closedSessionsLeaveNoPrompterThreads() throws Exception {
+		long before = prompterThreads();
+
+		try (ConsoleServer server = new ConsoleServer(0, session -> ConsoleUI.promptAsync(
+				() -> ConsoleUI.promptForInput("Name")).join())) {
+			for (int i = 0; i < 20; i++) {
+				try (SocketChannel client = SocketChannel.open(server.address())) {
+					send(client, "client " + i + "\n");
+					receiveAll(client);
+				}
+			}
+			awaitSessionCount(server, 0);
+		}
+
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (prompterThreads() > before && System.nanoTime() < deadline) {
+			Thread.sleep(20);
+		}
+		assertEquals(before, prompterThreads());
+	}
+
+	@Test
+	void closeStopsTheServer() throws Exception {
+		ConsoleServer server = new ConsoleServer(0, session -> ConsoleUI.promptForInput());
+
+		server.close();
+
+		assertFalse(server.isOpen());
+		assertNull(server.failure());
+	}
+
+	private static long prompterThreads() {
+		return Thread.getAllStackTraces().keySet().stream()
+				.filter(thread -> thread.getName().startsWith("ConsoleSession-prompts")).count();
+	}
+
+	private static void awaitSessionCount(ConsoleServer server, int count)
+			throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+		while (server.sessionCount() != count && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		assertEquals(count, server.sessionCount());
+	}
+
+	private static void send(SocketChannel client, String text) throws IOException {
+		ByteBuffer bytes = ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+		while (bytes.hasRemaining()) {
+			client.write(bytes);
+		}
+	}
+
+	/**
+	 * @return everything the server sends until it closes the connection
+	 */
+	private static String receiveAll(SocketChannel client) throws IOException {
+		ByteArrayOutputStream received = new ByteArrayOutputStream();
+		ByteBuffer buffer = ByteBuffer.allocate(4096);
+
+		while (client.read(buffer) >= 0) {
+			received.write(buffer.array(), 0, buffer.position());
+			buffer.clear();
+		}
+		return new String(received.toByteArray(), StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,94 @@
+package console;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import org.junit.jupiter.api.Test;
+
+import interfaces.MenuOption;
+
+/**
+ * @author Ryder James
+ */
+class ConsoleSessionTest {
+	private final StringWriter my_screen = new StringWriter();
+
+	@Test
+	void ipv6PromptExplainsEachRejection() {
+		ConsoleSession session = session("12345::1", "1::2::3", "::ffff:10.0.0.256",
+				"fe80::g1", "1:2:3", "::ffff:10.0.0.1");
+
+		long[] address = session.promptForIPv6Address("IP", new long[2]);
+
+		assertArrayEquals(new long[] { 0, 0xFFFF0A000001L }, address);
+		String screen = my_screen.toString();
+		assertInOrder(screen, "no more than 4 hexadecimal digits", "\"::\" more than once",
+				"The IPv4 part", "only hexadecimal digits", "8 groups");
+	}
+
+	@Test
+	void enumMenuIsRenderedOnceAcrossValuesCalls() {
+		ConsoleSession session = session();
+
+		MenuText first = session.cachedMenuText(Color.values(), "Quit", Menu.DESCRIBE_OPTION);
+		MenuText again = session.cachedMenuText(Color.values(), "Quit", Menu.DESCRIBE_OPTION);
+
+		assertSame(first, again);
+	}
+
+	@Test
+	void stringMenusAreCachedByArray() {
+		ConsoleSession session = session();
+		String[] options = { "Red", "Green" };
+
+		MenuText first = session.cachedMenuText(options, "Quit", Menu.DESCRIBE_STRING);
+
+		assertSame(first, session.cachedMenuText(options, "Quit", Menu.DESCRIBE_STRING));
+		assertNotSame(first, session.cachedMenuText(options.clone(), "Quit",
+				Menu.DESCRIBE_STRING));
+	}
+
+	@Test
+	void enumMenuSelectionUsesTheCachedText() {
+		ConsoleSession session = session("2", "1");
+
+		assertEquals(Color.GREEN, session.promptForMenuSelection(Color.values()));
+		assertEquals(Color.RED, session.promptForMenuSelection(Color.values()));
+		assertInOrder(my_screen.toString(), "1)\tRed", "2)\tGreen", "1)\tRed", "2)\tGreen");
+	}
+
+	private ConsoleSession session(String... lines) {
+		return new ConsoleSession(new LineSource(new StringReader(String.join("\n", lines))),
+				new ConsoleOutput(my_screen));
+	}
+
+	private static void assertInOrder(String text, String... parts) {
+		int from = 0;
+		for (String part : parts) {
+			int at = text.indexOf(part, from);
+			assertTrue(at >= 0, "\"" + part + "\" missing after index " + from + " in:\n" + text);
+			from = at + part.length();
+		}
+	}
+
+	private enum Color implements MenuOption {
+		RED("Red"), GREEN("Green");
+
+		private final String my_desc;
+
+		Color(String desc) {
+			my_desc = desc;
+		}
+
+		@Override
+		public String getDesc() {
+			return my_desc;
+		}
+	}
+}
@@ -0,0 +1,79 @@
+package console;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import enums.PromptType;
+
+/**
+ * @author Ryder James
+ */
+class PromptMetricsTest {
+	private final PromptMetricsMXBean my_metrics = PromptMetrics.mxBean();
+
+	@BeforeEach
+	void enable() {
+		PromptMetrics.enable();
+		my_metrics.reset();
+	}
+
+	@AfterEach
+	void disable() {
+		PromptMetrics.disable();
+		my_metrics.reset();
+	}
+
+	@Test
+	void answeredPromptCountsItsRetries() {
+		assertEquals(5, session("five", "5").promptForInt("Number"));
+
+		assertEquals(1L, count(my_metrics.getPrompts(), PromptType.NUMBER));
+		assertEquals(1L, count(my_metrics.getRetries(), PromptType.NUMBER));
+		assertEquals(0L, count(my_metrics.getFailures(), PromptType.NUMBER));
+	}
+
+	@Test
+	void promptThatRunsOutOfInputIsOnlyAFailure() {
+		ConsoleSession session = session("five");
+
+		assertThrows(NoSuchElementException.class, () -> session.promptForInt("Number"));
+
+		assertEquals(0L, count(my_metrics.getPrompts(), PromptType.NUMBER));
+		assertEquals(0L, count(my_metrics.getRetries(), PromptType.NUMBER));
+		assertEquals(1L, count(my_metrics.getFailures(), PromptType.NUMBER));
+
+		// The failure must not leave the session stuck inside the failed prompt
+		assertEquals(true, session("yes").promptForBool("Again?", "yes", "no"));
+		assertEquals(1L, count(my_metrics.getPrompts(), PromptType.BOOL));
+	}
+
+	@Test
+	void outputIsCountedInChars() {
+		StringWriter screen = new StringWriter();
+		ConsoleOutput out = new ConsoleOutput(screen);
+
+		out.print("é😀");
+		out.flush();
+
+		assertEquals(3L, my_metrics.getOutputCharacters());
+		assertEquals(1L, my_metrics.getOutputWrites());
+	}
+
+	private static long count(Map<String, Long> byType, PromptType type) {
+		return byType.get(type.name());
+	}
+
+	private static ConsoleSession session(String... lines) {
+		return new ConsoleSession(new LineSource(new StringReader(String.join("\n", lines))),
+				new ConsoleOutput(new StringWriter()));
+	}
+}
@@ -0,0 +1,93 @@
+package console;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.Writer;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Ryder James
+ */
+class TableRendererTest {
+	private static final String NL = System.lineSeparator();
+
+	@Test
+	void columnsAreAlignedToTheWidestSampledCell() {
+		StringBuilder out = new StringBuilder();
+
+		TableRenderer.DEFAULT.render(new String[] { "id", "name" }, Arrays.asList(
+				new Object[] { 1, "Ada" }, new Object[] { 100, null }).iterator(), out);
+
+		assertEquals("id   name" + NL + "1    Ada" + NL + "100  " + NL, out.toString());
+	}
+
+	@Test
+	void pagingRepeatsTheHeaderAndStopsWhenAsked() {
+		StringBuilder out = new StringBuilder();
+		int[] pages = { 0 };
+
+		boolean finished = new TableRenderer(" ", 10, 2).render(new String[] { "n" },
+				TableRenderer.rows(5, i -> new Object[] { i }), out, () -> ++pages[0] < 2);
+
+		assertFalse(finished);
+		assertEquals("n" + NL + "0" + NL + "1" + NL + "n" + NL + "2" + NL + "3" + NL,
+				out.toString());
+	}
+
+	@Test
+	void millionRowTableIsWrittenInBoundedChunks() {
+		CountingWriter screen = new CountingWriter();
+		ConsoleOutput out = new ConsoleOutput(screen);
+		int rows = 1_000_000;
+
+		TableRenderer.DEFAULT.render(new String[] { "row", "square" },
+				TableRenderer.rows(rows, i -> new Object[] { i, i * i }), out);
+
+		assertEquals(rows + 1, screen.my_lines);
+		assertEquals(0, out.pending());
+		assertTrue(screen.my_largestWrite <= 64 * 1024,
+				"Buffered " + screen.my_largestWrite + " chars before writing");
+		assertTrue(out.capacity() <= 64 * 1024, "Kept a buffer of " + out.capacity());
+	}
+
+	@Test
+	void largeFlushLetsTheBufferGo() {
+		ConsoleOutput out = new ConsoleOutput(new CountingWriter());
+		char[] text = new char[1 << 20];
+		Arrays.fill(text, 'x');
+
+		out.write(text, 0, text.length);
+		assertTrue(out.capacity() >= text.length);
+		out.flush();
+
+		assertTrue(out.capacity() <= 64 * 1024, "Kept a buffer of " + out.capacity());
+	}
+
+	/**
+	 * Discards what is written, remembering the largest single write and counting lines
+	 */
+	private static final class CountingWriter extends Writer {
+		private int my_largestWrite;
+		private long my_lines;
+
+		@Override
+		public void write(char[] buffer, int offset, int length) {
+			my_largestWrite = Math.max(my_largestWrite, length);
+			for (int i = offset; i < offset + length; i++) {
+				if (buffer[i] == '\n') {
+					my_lines++;
+				}
+			}
+		}
+
+		@Override
+		public void flush() {}
+
+		@Override
+		public void close() {}
+	}
+}
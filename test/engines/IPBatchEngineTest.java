@@ -0,0 +1,70 @@
+package engines;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import enums.IPType;
+
+/**
+ * @author Ryder James
+ */
+class IPBatchEngineTest {
+	@TempDir
+	Path my_directory;
+
+	@Test
+	void writesChunksInInputOrder() throws IOException {
+		List<String> input = new ArrayList<>();
+		List<String> expected = new ArrayList<>();
+		for (int i = 0; i < 5000; i++) {
+			boolean valid = i % 100 != 7;
+			input.add(valid ? "10.0." + (i >> 8) + "." + (i & 0xFF) : "10.0.0.256");
+			expected.add(valid ? String.format("0a00%02x%02x", i >> 8, i & 0xFF) : "");
+		}
+		Path in = write("in.txt", input);
+		Path out = my_directory.resolve("out.txt");
+		Path errors = my_directory.resolve("errors.txt");
+
+		// Tiny chunks and two threads, so many chunks finish out of order
+		IPBatchEngine.Result result = new IPBatchEngine(IPType.DOT_DECIMAL, IPType.HEX, 2, 256)
+				.run(in, out, errors);
+
+		assertEquals(5000, result.lines());
+		assertEquals(50, result.invalidLines());
+		assertEquals(expected, Files.readAllLines(out, StandardCharsets.UTF_8));
+
+		List<String> report = Files.readAllLines(errors, StandardCharsets.UTF_8);
+		assertEquals(50, report.size());
+		for (int i = 0; i < report.size(); i++) {
+			String line = report.get(i);
+			assertTrue(line.startsWith("line " + (i * 100 + 8) + ": "), line);
+			assertTrue(line.endsWith(": 10.0.0.256"), line);
+		}
+	}
+
+	@Test
+	void validatesWithoutOutput() throws IOException {
+		Path in = write("in.txt", Arrays.asList("1.2.3.4", " 5.6.7.8 ", "nope"));
+
+		IPBatchEngine.Result result = new IPBatchEngine(IPType.DOT_DECIMAL, IPType.BINARY)
+				.run(in, null, null);
+
+		assertEquals(3, result.lines());
+		assertEquals(1, result.invalidLines());
+	}
+
+	private Path write(String name, List<String> lines) throws IOException {
+		return Files.write(my_directory.resolve(name), lines, StandardCharsets.UTF_8);
+	}
+}
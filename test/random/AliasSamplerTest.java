@@ -0,0 +1,60 @@
+package random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Ryder James
+ */
+class AliasSamplerTest {
+	/**
+	 * 99.9th percentile of the chi-square distribution with 7 degrees of freedom
+	 */
+	private static final double CHI_SQUARE_7 = 24.322;
+
+	/**
+	 * 99.9th percentile of the chi-square distribution with 1 degree of freedom
+	 */
+	private static final double CHI_SQUARE_1 = 10.828;
+
+	@Test
+	void samplesMatchTheirWeights() {
+		AliasSampler sampler = new AliasSampler(1, 2, 3, 4, 5, 6, 7, 8);
+		SplittableRandom random = new SplittableRandom(4);
+		long[] counts = new long[8];
+		int samples = 1_000_000;
+
+		for (int i = 0; i < samples; i++) {
+			counts[sampler.sample(random)]++;
+		}
+
+		double statistic = 0;
+		for (int i = 0; i < counts.length; i++) {
+			double expected = samples * (i + 1) / 36.0;
+			statistic += (counts[i] - expected) * (counts[i] - expected) / expected;
+		}
+		assertTrue(statistic <= CHI_SQUARE_7, "chi-square " + statistic);
+	}
+
+	@Test
+	void weightsNearTheLargestDoubleDoNotOverflow() {
+		AliasSampler sampler = new AliasSampler(8e307, 8e307, 1);
+		SplittableRandom random = new SplittableRandom(4);
+		long[] counts = new long[3];
+		int samples = 300_000;
+
+		for (int i = 0; i < samples; i++) {
+			counts[sampler.sample(random)]++;
+		}
+
+		double expected = samples / 2.0;
+		double statistic = (counts[0] - expected) * (counts[0] - expected) / expected
+				+ (counts[1] - expected) * (counts[1] - expected) / expected;
+		assertTrue(statistic <= CHI_SQUARE_1, "chi-square " + statistic);
+		assertEquals(0, counts[2]);
+	}
+}
@@ -0,0 +1,41 @@
+package random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Ryder James
+ */
+class RandomServiceTest {
+	@Test
+	void sameSeedGivesSameValues() {
+		RandomService first = new RandomService(42);
+		RandomService second = new RandomService(42);
+
+		assertEquals(first.nextLong(), second.nextLong());
+		assertEquals(first.randomInt(1, 6), second.randomInt(1, 6));
+		assertArrayEquals(first.fill(new int[64], -5, 5), second.fill(new int[64], -5, 5));
+		assertArrayEquals(first.fill(new double[64]), second.fill(new double[64]));
+	}
+
+	@Test
+	void splitChildrenOfSeededServicesAreReproducible() {
+		RandomService first = new RandomService(42);
+		RandomService second = new RandomService(42);
+
+		RandomService firstChild = first.split();
+		RandomService secondChild = second.split();
+		long[] firstValues = firstChild.fill(new long[64]);
+
+		assertArrayEquals(firstValues, secondChild.fill(new long[64]));
+		assertArrayEquals(first.split().fill(new long[64]), second.split().fill(new long[64]));
+		assertArrayEquals(first.fill(new long[64]), second.fill(new long[64]));
+		assertFalse(Arrays.equals(firstValues, new RandomService(42).fill(new long[64])),
+				"a child repeats its parent's values");
+	}
+}
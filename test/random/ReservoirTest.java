@@ -0,0 +1,59 @@
+package random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Ryder James
+ */
+class ReservoirTest {
+	/**
+	 * 99.9th percentile of the chi-square distribution with 14 degrees of freedom
+	 */
+	private static final double CHI_SQUARE_14 = 36.123;
+
+	@Test
+	void everyPairIsEquallyLikely() {
+		List<Integer> population = Arrays.asList(0, 1, 2, 3, 4, 5);
+		SplittableRandom random = new SplittableRandom(4);
+		long[] pairs = new long[36];
+		int trials = 150_000;
+
+		for (int t = 0; t < trials; t++) {
+			List<Integer> picked = Reservoir.sample(population.iterator(), 2, random::nextDouble);
+			assertEquals(2, picked.size());
+			int low = Math.min(picked.get(0), picked.get(1));
+			int high = Math.max(picked.get(0), picked.get(1));
+			assertTrue(low < high, "picked " + picked);
+			pairs[low * 6 + high]++;
+		}
+
+		// Only the 15 pairs with low < high can occur
+		double expected = trials / 15.0;
+		double statistic = 0;
+		for (int low = 0; low < 6; low++) {
+			for (int high = low + 1; high < 6; high++) {
+				long count = pairs[low * 6 + high];
+				statistic += (count - expected) * (count - expected) / expected;
+			}
+		}
+		assertTrue(statistic <= CHI_SQUARE_14, "chi-square " + statistic);
+	}
+
+	@Test
+	void shortSourceIsTakenWhole() {
+		List<String> picked = Reservoir.sample(Arrays.asList("a", "b").iterator(), 5,
+				new SplittableRandom(1)::nextDouble);
+
+		assertEquals(Arrays.asList("a", "b"), picked);
+		assertEquals(Collections.emptyList(), Reservoir.sample(Arrays.asList("a").iterator(), 0,
+				new SplittableRandom(1)::nextDouble));
+	}
+}
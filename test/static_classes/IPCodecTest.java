@@ -0,0 +1,137 @@
+package static_classes;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import enums.IPType;
+
+/**
+ * @author Ryder James
+ */
+class IPCodecTest {
+	private static final long ADDRESS = 0xC0A8_0A01L; // 192.168.10.1
+
+	@Test
+	void parsesEveryForm() {
+		assertEquals(ADDRESS, IPCodec.parse("192.168.10.1", IPType.DOT_DECIMAL));
+		assertEquals(ADDRESS, IPCodec.parse("3232238081", IPType.DECIMAL));
+		assertEquals(ADDRESS, IPCodec.parse("C0a80A01", IPType.HEX));
+		assertEquals(ADDRESS, IPCodec.parse("11000000101010000000101000000001", IPType.BINARY));
+		assertEquals(0xFFFF_FFFFL, IPCodec.parse("255.255.255.255", IPType.DOT_DECIMAL));
+		assertEquals(0, IPCodec.parse("0", IPType.DECIMAL));
+	}
+
+	@Test
+	void parsesPartOfASequence() {
+		assertEquals(ADDRESS, IPCodec.parse("ip=192.168.10.1;", 3, 15, IPType.DOT_DECIMAL));
+	}
+
+	@Test
+	void reportsEachIPv4Error() {
+		assertEquals(IPCodec.BAD_PART_COUNT, IPCodec.parse("1.2.3", IPType.DOT_DECIMAL));
+		assertEquals(IPCodec.BAD_PART_COUNT, IPCodec.parse("1.2.3.4.5", IPType.DOT_DECIMAL));
+		assertEquals(IPCodec.PART_TOO_LONG, IPCodec.parse("1.2.3.0004", IPType.DOT_DECIMAL));
+		assertEquals(IPCodec.OUT_OF_RANGE, IPCodec.parse("1.2.3.256", IPType.DOT_DECIMAL));
+		assertEquals(IPCodec.BAD_CHARACTER, IPCodec.parse("1.2.x.4", IPType.DOT_DECIMAL));
+		assertEquals(IPCodec.BAD_CHARACTER, IPCodec.parse("1..3.4", IPType.DOT_DECIMAL));
+		assertEquals(IPCodec.BAD_CHARACTER, IPCodec.parse("1.2.3.", IPType.DOT_DECIMAL));
+		assertEquals(IPCodec.OUT_OF_RANGE, IPCodec.parse("4294967296", IPType.DECIMAL));
+		assertEquals(IPCodec.BAD_CHARACTER, IPCodec.parse("-1", IPType.DECIMAL));
+		assertEquals(IPCodec.BAD_LENGTH, IPCodec.parse("", IPType.DECIMAL));
+		assertEquals(IPCodec.BAD_LENGTH, IPCodec.parse("C0A80A0", IPType.HEX));
+		assertEquals(IPCodec.BAD_CHARACTER, IPCodec.parse("C0A80A0G", IPType.HEX));
+		assertEquals(IPCodec.BAD_CHARACTER,
+				IPCodec.parse("11000000101010000000101000000002", IPType.BINARY));
+		assertFalse(IPCodec.isValid("1.2.3.4 ", IPType.DOT_DECIMAL));
+		assertTrue(IPCodec.isValid("1.2.3.4", IPType.DOT_DECIMAL));
+	}
+
+	@Test
+	void formatsAndConvertsEveryForm() {
+		int address = (int) ADDRESS;
+
+		assertEquals("192.168.10.1", IPCodec.toString(address, IPType.DOT_DECIMAL));
+		assertEquals("3232238081", IPCodec.toString(address, IPType.DECIMAL));
+		assertEquals("c0a80a01", IPCodec.toString(address, IPType.HEX));
+		assertEquals("11000000101010000000101000000001",
+				IPCodec.toString(address, IPType.BINARY));
+		assertEquals("00000001", IPCodec.convert("0.0.0.1", IPType.DOT_DECIMAL, IPType.HEX));
+		assertThrows(IllegalArgumentException.class,
+				() -> IPCodec.convert("1.2.3", IPType.DOT_DECIMAL, IPType.HEX));
+	}
+
+	@Test
+	void parsesIPv6Forms() {
+		assertArrayEquals(new long[] { 0x2001_0db8_0000_0000L, 0x0000_0000_0000_0001L },
+				ipv6("2001:db8::1"));
+		assertArrayEquals(new long[] { 0x2001_0db8_0000_0000L, 0x0000_0000_0000_0001L },
+				ipv6("2001:0DB8:0:0:0:0:0:1"));
+		assertArrayEquals(new long[] { 0, 0 }, ipv6("::"));
+		assertArrayEquals(new long[] { 0, 1 }, ipv6("::1"));
+		assertArrayEquals(new long[] { 0xFE80_0000_0000_0000L, 0 }, ipv6("fe80::"));
+		assertArrayEquals(new long[] { 0, 0x0000_FFFF_C0A8_0A01L }, ipv6("::ffff:192.168.10.1"));
+		assertArrayEquals(new long[] { 0x0001_0002_0003_0004L, 0x0005_0006_0102_0304L },
+				ipv6("1:2:3:4:5:6:1.2.3.4"));
+	}
+
+	@Test
+	void reportsEachIPv6Error() {
+		long[] into = new long[2];
+
+		assertEquals(IPCodec.BAD_PART_COUNT, IPCodec.parseIPv6("1:2:3:4:5:6:7", into));
+		assertEquals(IPCodec.BAD_PART_COUNT, IPCodec.parseIPv6("1:2:3:4:5:6:7:8:9", into));
+		assertEquals(IPCodec.BAD_PART_COUNT, IPCodec.parseIPv6("1:2:3:4::5:6:7:8", into));
+		assertEquals(IPCodec.BAD_PART_COUNT, IPCodec.parseIPv6("1:2:3:4:5:6:7:", into));
+		assertEquals(IPCodec.PART_TOO_LONG, IPCodec.parseIPv6("12345::", into));
+		assertEquals(IPCodec.BAD_CHARACTER, IPCodec.parseIPv6("fe80::g1", into));
+		assertEquals(IPCodec.BAD_CHARACTER, IPCodec.parseIPv6(":1::", into));
+		assertEquals(IPCodec.REPEATED_SHORTHAND, IPCodec.parseIPv6("1::2::3", into));
+		assertEquals(IPCodec.BAD_EMBEDDED_IPV4, IPCodec.parseIPv6("::ffff:1.2.3.256", into));
+		assertEquals(IPCodec.BAD_LENGTH, IPCodec.parseIPv6(":", into));
+	}
+
+	@Test
+	void formatsIPv6Canonically() {
+		assertEquals("2001:db8::1", IPCodec.toIPv6String(0x2001_0db8_0000_0000L, 1));
+		assertEquals("::", IPCodec.toIPv6String(0, 0));
+		assertEquals("::1", IPCodec.toIPv6String(0, 1));
+		// A lone zero group is not shortened, and the longest run wins
+		assertEquals("2001:db8:0:1:1:1:1:1",
+				IPCodec.toIPv6String(0x2001_0db8_0000_0001L, 0x0001_0001_0001_0001L));
+		assertEquals("1:0:0:2::3",
+				IPCodec.toIPv6String(0x0001_0000_0000_0002L, 0x0000_0000_0000_0003L));
+		// Of two equally long runs, the first is shortened
+		assertEquals("1::2:0:0:3:4",
+				IPCodec.toIPv6String(0x0001_0000_0000_0002L, 0x0000_0000_0003_0004L));
+	}
+
+	@Test
+	void formatsIPv4MappedAddressesInMixedForm() {
+		assertEquals("::ffff:1.2.3.4", IPCodec.toIPv6String(0, 0x0000_FFFF_0102_0304L));
+		assertEquals("::ffff:0.0.0.0", IPCodec.toIPv6String(0, 0x0000_FFFF_0000_0000L));
+		// Only ::ffff:0:0/96 is mapped
+		assertEquals("::fffe:102:304", IPCodec.toIPv6String(0, 0x0000_FFFE_0102_0304L));
+		assertEquals("::1:ffff:102:304", IPCodec.toIPv6String(0, 0x0001_FFFF_0102_0304L));
+	}
+
+	@Test
+	void formattedIPv6ParsesBackToTheSameAddress() {
+		long[][] addresses = { { 0x2001_0db8_85a3_0000L, 0x0000_8a2e_0370_7334L },
+				{ 0, 0x0000_FFFF_C0A8_0A01L }, { -1, -1 }, { 0x0001_0000_0000_0000L, 0 } };
+
+		for (long[] address : addresses) {
+			assertArrayEquals(address, ipv6(IPCodec.toIPv6String(address[0], address[1])));
+		}
+	}
+
+	private static long[] ipv6(String ip) {
+		long[] into = new long[2];
+		assertEquals(0, IPCodec.parseIPv6(ip, into), ip);
+		return into;
+	}
+}